@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.core.vault.InMemoryVault;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -49,6 +50,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Core Default Services";
 
+    private static final int DEFAULT_EVENT_THREADPOOL_SIZE = 1;
+
+    @Setting(value = "The number of threads used to deliver the events to the asynchronous subscribers", defaultValue = DEFAULT_EVENT_THREADPOOL_SIZE + "", type = "int")
+    public static final String EVENT_THREADPOOL_SIZE_SETTING = "edc.core.event.threadpool-size";
+
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
      */
@@ -80,8 +86,9 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
+    public EventExecutorServiceContainer eventExecutorServiceContainer(ServiceExtensionContext context) {
+        var threads = context.getSetting(EVENT_THREADPOOL_SIZE_SETTING, DEFAULT_EVENT_THREADPOOL_SIZE);
+        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(threads));
     }
 
     @Provider(isDefault = true)
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.core.base.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
+import org.eclipse.edc.connector.core.event.EventRouterConfiguration;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceConfiguration;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceImpl;
@@ -50,7 +51,9 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.security.PrivateKey;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Locale;
 
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
 
@@ -75,6 +78,15 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "The maximum number of events waiting to be delivered to a single asynchronous subscriber", defaultValue = EventRouterConfiguration.DEFAULT_QUEUE_CAPACITY + "", type = "int")
+    public static final String EVENT_SUBSCRIBER_QUEUE_SIZE_SETTING = "edc.core.event.subscriber.queue-size";
+    @Setting(value = "The maximum number of events delivered concurrently to a single asynchronous subscriber", defaultValue = EventRouterConfiguration.DEFAULT_PARALLELISM + "", type = "int")
+    public static final String EVENT_SUBSCRIBER_PARALLELISM_SETTING = "edc.core.event.subscriber.parallelism";
+    @Setting(value = "What to do when the queue of an asynchronous subscriber is full: BLOCK the publisher or DROP the event. Publishers can run inside a transaction, so BLOCK can stall the state machines, while DROP loses events", defaultValue = "BLOCK")
+    public static final String EVENT_SUBSCRIBER_OVERFLOW_POLICY_SETTING = "edc.core.event.subscriber.overflow-policy";
+    @Setting(value = "How long a publisher waits for room in the queue of an asynchronous subscriber with the BLOCK policy, in milliseconds, before the event is dropped", defaultValue = EventRouterConfiguration.DEFAULT_BLOCK_TIMEOUT_MILLIS + "", type = "long")
+    public static final String EVENT_SUBSCRIBER_BLOCK_TIMEOUT_SETTING = "edc.core.event.subscriber.block-timeout-ms";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
@@ -91,6 +103,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
 
@@ -164,7 +179,8 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var executor = executorInstrumentation.instrument(eventExecutorServiceContainer.getExecutorService(), "event-router");
+        return new EventRouterImpl(context.getMonitor(), executor, clock, getEventRouterConfig(context));
     }
 
     @Provider
@@ -182,6 +198,16 @@ public class CoreServicesExtension implements ServiceExtension {
         return new JsonObjectValidatorRegistryImpl();
     }
 
+    private EventRouterConfiguration getEventRouterConfig(ServiceExtensionContext context) {
+        var overflowPolicy = context.getSetting(EVENT_SUBSCRIBER_OVERFLOW_POLICY_SETTING, EventRouterConfiguration.DEFAULT_OVERFLOW_POLICY.name());
+        return EventRouterConfiguration.Builder.newInstance()
+                .queueCapacity(context.getSetting(EVENT_SUBSCRIBER_QUEUE_SIZE_SETTING, EventRouterConfiguration.DEFAULT_QUEUE_CAPACITY))
+                .parallelism(context.getSetting(EVENT_SUBSCRIBER_PARALLELISM_SETTING, EventRouterConfiguration.DEFAULT_PARALLELISM))
+                .overflowPolicy(EventRouterConfiguration.OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT)))
+                .blockTimeoutMillis(context.getSetting(EVENT_SUBSCRIBER_BLOCK_TIMEOUT_SETTING, EventRouterConfiguration.DEFAULT_BLOCK_TIMEOUT_MILLIS))
+                .build();
+    }
+
     private HealthCheckServiceConfiguration getHealthCheckConfig(ServiceExtensionContext context) {
         return HealthCheckServiceConfiguration.Builder.newInstance()
                 .livenessPeriod(Duration.ofSeconds(context.getSetting(LIVENESS_PERIOD_SECONDS_SETTING, DEFAULT_DURATION)))
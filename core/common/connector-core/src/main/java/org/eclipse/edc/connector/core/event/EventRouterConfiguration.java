@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+/**
+ * Configuration of the asynchronous dispatch of the {@link EventRouterImpl}. Every asynchronous subscriber gets its own
+ * bounded queue, drained by at most {@code parallelism} tasks at a time on the shared event executor.
+ */
+public class EventRouterConfiguration {
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 5_000;
+
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+    private long blockTimeoutMillis = DEFAULT_BLOCK_TIMEOUT_MILLIS;
+
+    /**
+     * The maximum number of events waiting to be delivered to a single subscriber.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * The maximum number of events delivered concurrently to a single subscriber. With a value of 1 a subscriber
+     * receives the events in the order they were published.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * What happens when an event is published and the queue of a subscriber is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * How long a publisher waits for room in the queue of a subscriber with the {@link OverflowPolicy#BLOCK} policy,
+     * before the event is dropped.
+     */
+    public long getBlockTimeoutMillis() {
+        return blockTimeoutMillis;
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * The publisher waits until there is room in the queue of the subscriber, at most for the block timeout. Events
+         * are often published by the state machines inside a transaction, which then stays open while a slow
+         * subscriber catches up. The event is dropped, and a warning logged, when the timeout elapses or when it is
+         * published by a subscriber itself, as the queue could be waiting for that very delivery to complete. This is
+         * the default.
+         */
+        BLOCK,
+        /**
+         * The event is not delivered to the subscriber and a warning is logged. The publisher is never held up, but the
+         * subscriber loses events.
+         */
+        DROP
+    }
+
+    public static final class Builder {
+        private final EventRouterConfiguration config;
+
+        private Builder() {
+            config = new EventRouterConfiguration();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder queueCapacity(int queueCapacity) {
+            config.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            config.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            config.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder blockTimeoutMillis(long blockTimeoutMillis) {
+            config.blockTimeoutMillis = blockTimeoutMillis;
+            return this;
+        }
+
+        public EventRouterConfiguration build() {
+            if (config.queueCapacity <= 0) {
+                throw new IllegalArgumentException("The subscriber queue capacity must be positive");
+            }
+            if (config.parallelism <= 0) {
+                throw new IllegalArgumentException("The subscriber parallelism must be positive");
+            }
+            if (config.blockTimeoutMillis < 0) {
+                throw new IllegalArgumentException("The subscriber block timeout must not be negative");
+            }
+            return config;
+        }
+    }
+}
@@ -19,69 +19,112 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.SubscriberQueueStats;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
-
-import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Routes the published events to the registered subscribers. Synchronous subscribers are called on the publishing
+ * thread, asynchronous subscribers get the events through their own bounded {@link SubscriberQueue}.
+ * <p>
+ * The subscribers of an event type are resolved once and kept in a dispatch table, which gets rebuilt when a new
+ * subscriber is registered.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<SubscriberQueue>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<SubscriberQueue>> dispatchTable = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<EventSubscriber>> syncDispatchTable = new ConcurrentHashMap<>();
+    private final List<SubscriberQueue> queues = new CopyOnWriteArrayList<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final Clock clock;
+    private final EventRouterConfiguration configuration;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, Clock.systemUTC(), EventRouterConfiguration.Builder.newInstance().build());
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, Clock clock, EventRouterConfiguration configuration) {
         this.monitor = monitor;
         this.executor = executor;
+        this.clock = clock;
+        this.configuration = configuration;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        synchronized (syncSubscribers) {
+            syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+            syncDispatchTable.clear();
+        }
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        synchronized (subscribers) {
+            var queue = new SubscriberQueue(subscriber, nameOf(subscriber), executor, monitor, clock, configuration);
+            subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(queue);
+            queues.add(queue);
+            dispatchTable.clear();
+        }
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var eventType = event.getPayload().getClass();
+        syncSubscribersFor(eventType).forEach(subscriber -> subscriber.on(event));
+        subscribersFor(eventType).forEach(queue -> queue.enqueue(event));
+    }
+
+    @Override
+    public List<SubscriberQueueStats> queueStats() {
+        return queues.stream().map(SubscriberQueue::stats).toList();
+    }
+
+    /**
+     * The name identifies the queue in the stats, so subscribers of the same class get a numeric suffix.
+     */
+    private String nameOf(EventSubscriber subscriber) {
+        var type = subscriber.getClass();
+        var name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+        var sameName = queues.stream().filter(queue -> queue.name().equals(name) || queue.name().startsWith(name + "-")).count();
+        return sameName == 0 ? name : name + "-" + sameName;
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private List<EventSubscriber> syncSubscribersFor(Class<?> eventType) {
+        var cached = syncDispatchTable.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (syncSubscribers) {
+            return syncDispatchTable.computeIfAbsent(eventType, type -> resolve(type, syncSubscribers));
+        }
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private List<SubscriberQueue> subscribersFor(Class<?> eventType) {
+        var cached = dispatchTable.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (subscribers) {
+            return dispatchTable.computeIfAbsent(eventType, type -> resolve(type, subscribers));
+        }
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private <T> List<T> resolve(Class<?> eventType, Map<Class<?>, List<T>> registrations) {
+        return registrations.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(eventType))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
     }
 }
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.SubscriberQueueStats;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded queue of the events waiting to be delivered to a single asynchronous subscriber. Every delivery runs as a
+ * separate task on the shared executor, so a slow subscriber holds at most {@code parallelism} threads and the events
+ * of the other subscribers keep flowing.
+ */
+class SubscriberQueue {
+
+    /**
+     * Set on the threads that are delivering an event: when a subscriber publishes an event, the publish must not wait
+     * for room in a queue that could be drained only by that same thread.
+     */
+    private static final ThreadLocal<Boolean> DELIVERING = ThreadLocal.withInitial(() -> false);
+
+    private final EventSubscriber subscriber;
+    private final String name;
+    private final Executor executor;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final EventRouterConfiguration configuration;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long lagMillis;
+
+    SubscriberQueue(EventSubscriber subscriber, String name, Executor executor, Monitor monitor, Clock clock, EventRouterConfiguration configuration) {
+        this.subscriber = subscriber;
+        this.name = name;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.configuration = configuration;
+        this.queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+    }
+
+    void enqueue(EventEnvelope<?> event) {
+        var entry = new Entry(event, clock.millis());
+        if (queue.offer(entry) || waitForRoom(entry)) {
+            schedule();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    SubscriberQueueStats stats() {
+        return new SubscriberQueueStats(name, queue.size(), dropped.get(), lagMillis);
+    }
+
+    private boolean waitForRoom(Entry entry) {
+        var eventName = entry.event().getPayload().name();
+        if (configuration.getOverflowPolicy() == EventRouterConfiguration.OverflowPolicy.DROP) {
+            monitor.warning(format("Queue of subscriber %s is full, event %s dropped", name, eventName));
+            return false;
+        }
+        if (DELIVERING.get()) {
+            monitor.warning(format("Queue of subscriber %s is full and event %s has been published by a subscriber, event dropped", name, eventName));
+            return false;
+        }
+        try {
+            if (queue.offer(entry, configuration.getBlockTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            monitor.warning(format("Queue of subscriber %s is still full after %s ms, event %s dropped", name, configuration.getBlockTimeoutMillis(), eventName));
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            monitor.warning(format("Interrupted while waiting on the queue of subscriber %s, event %s dropped", name, eventName));
+            return false;
+        }
+    }
+
+    private void schedule() {
+        while (true) {
+            var running = active.get();
+            if (running >= configuration.getParallelism() || queue.isEmpty()) {
+                return;
+            }
+            if (active.compareAndSet(running, running + 1)) {
+                try {
+                    executor.execute(this::deliverNext);
+                } catch (RejectedExecutionException e) {
+                    active.decrementAndGet();
+                    monitor.severe(format("Cannot deliver events to subscriber %s, the event executor rejected the task", name), e);
+                }
+                return;
+            }
+        }
+    }
+
+    private void deliverNext() {
+        try {
+            var entry = queue.poll();
+            if (entry != null) {
+                lagMillis = clock.millis() - entry.enqueuedAt();
+                deliver(entry.event());
+            }
+        } finally {
+            active.decrementAndGet();
+            schedule();
+        }
+    }
+
+    private void deliver(EventEnvelope<?> event) {
+        DELIVERING.set(true);
+        try {
+            subscriber.on(event);
+        } catch (Throwable throwable) {
+            monitor.severe(format("Subscriber %s failed to handle event %s", name, event.getPayload().name()), throwable);
+        } finally {
+            DELIVERING.remove();
+        }
+    }
+
+    private record Entry(EventEnvelope<?> event, long enqueuedAt) {
+    }
+}
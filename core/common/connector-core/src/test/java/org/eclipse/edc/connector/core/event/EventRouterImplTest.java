@@ -17,19 +17,26 @@ package org.eclipse.edc.connector.core.event;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.SubscriberQueueStats;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,9 +156,157 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterFirstPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        eventRouter.publish(createEvent());
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        var event = createEvent();
+        eventRouter.publish(event);
+
+        verify(subscriberA, times(2)).on(any());
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldNotDelayOtherSubscribers_whenSubscriberIsSlow() throws InterruptedException {
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(2));
+        var release = new CountDownLatch(1);
+        var slowSubscriber = mock(EventSubscriber.class);
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(slowSubscriber).on(any());
+        var fastSubscriber = mock(EventSubscriber.class);
+        router.register(TestEvent.class, slowSubscriber);
+        router.register(TestEvent.class, fastSubscriber);
+
+        for (var i = 0; i < 5; i++) {
+            router.publish(createEvent());
+        }
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(fastSubscriber, times(5)).on(any());
+            assertThat(router.queueStats()).anySatisfy(stats -> assertThat(stats.depth()).isEqualTo(4));
+        });
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(slowSubscriber, times(5)).on(any()));
+    }
+
+    @Test
+    void shouldNotDropEventsByDefault() {
+        assertThat(EventRouterConfiguration.Builder.newInstance().build().getOverflowPolicy())
+                .isEqualTo(EventRouterConfiguration.OverflowPolicy.BLOCK);
+    }
+
+    @Test
+    void shouldDropEvents_whenQueueIsFullAndOverflowPolicyIsDrop() {
+        var configuration = EventRouterConfiguration.Builder.newInstance()
+                .queueCapacity(1)
+                .overflowPolicy(EventRouterConfiguration.OverflowPolicy.DROP)
+                .build();
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), clock, configuration);
+        var release = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(createEvent());
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber).on(any()));
+        router.publish(createEvent());
+        router.publish(createEvent());
+
+        assertThat(router.queueStats()).singleElement().satisfies(stats -> {
+            assertThat(stats.depth()).isEqualTo(1);
+            assertThat(stats.dropped()).isEqualTo(1);
+        });
+        verify(monitor).warning(anyString());
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+    }
+
+    @Test
+    void shouldDropEvent_whenQueueIsStillFullAfterBlockTimeout() {
+        var configuration = EventRouterConfiguration.Builder.newInstance()
+                .queueCapacity(1)
+                .blockTimeoutMillis(50)
+                .build();
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), clock, configuration);
+        var release = new CountDownLatch(1);
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(createEvent());
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber).on(any()));
+        router.publish(createEvent());
+        router.publish(createEvent());
+
+        assertThat(router.queueStats()).singleElement().satisfies(stats -> {
+            assertThat(stats.depth()).isEqualTo(1);
+            assertThat(stats.dropped()).isEqualTo(1);
+        });
+        verify(monitor).warning(anyString());
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+    }
+
+    @Test
+    void shouldNotDeadlock_whenSubscriberPublishesIntoItsOwnFullQueue() {
+        var configuration = EventRouterConfiguration.Builder.newInstance()
+                .queueCapacity(1)
+                .parallelism(1)
+                .blockTimeoutMillis(TimeUnit.MINUTES.toMillis(1))
+                .build();
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), clock, configuration);
+        var republished = new AtomicBoolean();
+        var subscriber = mock(EventSubscriber.class);
+        doAnswer(i -> {
+            if (republished.compareAndSet(false, true)) {
+                router.publish(createEvent());
+                router.publish(createEvent());
+            }
+            return null;
+        }).when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(createEvent());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(subscriber, times(2)).on(any());
+            assertThat(router.queueStats()).singleElement().satisfies(stats -> {
+                assertThat(stats.depth()).isZero();
+                assertThat(stats.dropped()).isEqualTo(1);
+            });
+        });
+    }
+
+    @Test
+    void shouldNameQueuesUniquely_whenSubscribersHaveTheSameType() {
+        eventRouter.register(TestEvent.class, new TestSubscriber());
+        eventRouter.register(TestEvent.class, new TestSubscriber());
+        eventRouter.register(TestEvent.class, new TestSubscriber());
+
+        assertThat(eventRouter.queueStats()).extracting(SubscriberQueueStats::subscriber)
+                .containsExactly("TestSubscriber", "TestSubscriber-1", "TestSubscriber-2");
+    }
+
+    private EventEnvelope<?> createEvent() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
+    private static class TestSubscriber implements EventSubscriber {
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+        }
+    }
+
     private static class TestEvent extends TestEventBase {
 
         @Override
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes a {@link JsonArray} element by element, compacting every element just before it gets written, so that no
+ * compacted copy of the whole array is kept in memory. The first element is compacted before anything is written,
+ * so that a compaction failure can still be turned into an error response.
+ */
+@Provider
+public class JerseyJsonLdArrayWriter implements MessageBodyWriter<JsonArray> {
+    private final JsonLd jsonLd;
+    private final ObjectMapper objectMapper;
+
+    public JerseyJsonLdArrayWriter(JsonLd jsonLd, ObjectMapper objectMapper) {
+        this.jsonLd = jsonLd;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonArray.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(JsonArray jsonArray, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        var iterator = jsonArray.iterator();
+        var first = iterator.hasNext() ? compact(iterator.next()) : null;
+
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(entityStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            if (first != null) {
+                writer.writeValue(generator, first);
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, compact(iterator.next()));
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonValue compact(JsonValue jsonValue) {
+        if (jsonValue instanceof JsonObject jsonObject) {
+            return jsonLd.compact(jsonObject)
+                    .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonObject: " + f.getFailureDetail()));
+        } else {
+            return jsonValue;
+        }
+    }
+}
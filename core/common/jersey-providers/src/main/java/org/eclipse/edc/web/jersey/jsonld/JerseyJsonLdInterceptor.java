@@ -14,65 +14,31 @@
 
 package org.eclipse.edc.web.jersey.jsonld;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
-import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.ext.Provider;
-import jakarta.ws.rs.ext.ReaderInterceptor;
-import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
-
+/**
+ * Compacts a {@link JsonObject} response entity. Arrays are compacted element by element by the
+ * {@link JerseyJsonLdArrayWriter}, request bodies are expanded by the {@link JerseyJsonLdReader}.
+ */
 @Provider
-public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
+public class JerseyJsonLdInterceptor implements WriterInterceptor {
     private final JsonLd jsonLd;
-    private final ObjectMapper objectMapper;
 
-    public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper) {
+    public JerseyJsonLdInterceptor(JsonLd jsonLd) {
         this.jsonLd = jsonLd;
-        this.objectMapper = objectMapper;
-    }
-
-    @Override
-    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
-        if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
-
-                var expanded = jsonLd.expand(jsonObject)
-                        .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
-
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
-            }
-        }
-
-        return context.proceed();
     }
 
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
-        if (context.getEntity() instanceof JsonArray jsonArray) {
-            var compacted = jsonArray.stream().map(it -> {
-                if (it instanceof JsonObject jsonObject) {
-                    return this.compact(jsonObject);
-                } else {
-                    return it;
-                }
-            }).collect(toJsonArray());
-
-            context.setEntity(compacted);
-        } else if (context.getEntity() instanceof JsonObject jsonObject) {
+        if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
         }
 
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads a request body into a {@link JsonObject} and expands it, so that the parsed object is handed to the
+ * controller straight away instead of being serialized and parsed a second time. An empty body is read as null.
+ */
+@Provider
+public class JerseyJsonLdReader implements MessageBodyReader<JsonObject> {
+    private final JsonLd jsonLd;
+    private final ObjectMapper objectMapper;
+
+    public JerseyJsonLdReader(JsonLd jsonLd, ObjectMapper objectMapper) {
+        this.jsonLd = jsonLd;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type.equals(JsonObject.class);
+    }
+
+    @Override
+    public JsonObject readFrom(Class<JsonObject> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                               MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException, WebApplicationException {
+        var inputStream = new PushbackInputStream(entityStream);
+        var firstByte = inputStream.read();
+        if (firstByte == -1) {
+            return null;
+        }
+        inputStream.unread(firstByte);
+
+        var jsonObject = objectMapper.readValue(inputStream, JsonObject.class);
+        return jsonLd.expand(jsonObject)
+                .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
+    }
+}
@@ -17,23 +17,31 @@ package org.eclipse.edc.web.jersey.jsonld;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -42,7 +50,7 @@ import static org.mockito.Mockito.when;
 class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     private final JsonLd jsonLd = mock();
-    private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper);
+    private final CountingReaderInterceptor readerInterceptor = new CountingReaderInterceptor();
 
     @Test
     void expansion_shouldSucceed_whenInputIsJsonObject() {
@@ -59,6 +67,21 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verify(jsonLd).expand(compactedJson());
     }
 
+    @Test
+    void expansion_shouldNotBypassOtherReaderInterceptors() {
+        when(jsonLd.expand(any())).thenReturn(Result.success(expandedJson()));
+
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body(compactedJson())
+                .post("/create/json-object")
+                .then()
+                .statusCode(204);
+
+        assertThat(readerInterceptor.invocations).hasValue(1);
+    }
+
     @Test
     void expansion_shouldReturnBadRequest_whenExpansionFails() {
         when(jsonLd.expand(any())).thenReturn(Result.failure("expansion failure"));
@@ -166,6 +189,37 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
                 .statusCode(500);
     }
 
+    @Test
+    void compaction_multiple_shouldCompactOnlyJsonObjects_whenArrayIsMixed() {
+        when(jsonLd.compact(any())).thenReturn(Result.success(compactedJson()));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/multiple/mixed")
+                .then()
+                .statusCode(200)
+                .body("size()", is(3))
+                .body("[0].compacted-key", is("compacted-value"))
+                .body("[1]", is("a string"))
+                .body("[2].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(2)).compact(expandedJson());
+    }
+
+    @Test
+    void compaction_multiple_shouldReturnEmptyArray_whenArrayIsEmpty() {
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/multiple/empty")
+                .then()
+                .statusCode(200)
+                .body("size()", is(0));
+
+        verifyNoInteractions(jsonLd);
+    }
+
     @Test
     void compaction_multiple_shouldNotHappen_whenOutputIsNotJsonObject() {
         given()
@@ -184,8 +238,24 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
     }
 
     @Override
-    protected Object additionalResource() {
-        return interceptor;
+    protected List<Object> additionalResources() {
+        return List.of(
+                new JerseyJsonLdReader(jsonLd, objectMapper),
+                new JerseyJsonLdArrayWriter(jsonLd, objectMapper),
+                new JerseyJsonLdInterceptor(jsonLd),
+                readerInterceptor
+        );
+    }
+
+    @Provider
+    public static class CountingReaderInterceptor implements ReaderInterceptor {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+            invocations.incrementAndGet();
+            return context.proceed();
+        }
     }
 
     @Path("/")
@@ -223,6 +293,18 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/multiple/mixed")
+        public JsonArray getMultipleMixed() {
+            return Json.createArrayBuilder().add(expandedJson()).add("a string").add(expandedJson()).build();
+        }
+
+        @GET
+        @Path("/get/multiple/empty")
+        public JsonArray getMultipleEmpty() {
+            return JsonValue.EMPTY_JSON_ARRAY;
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
@@ -15,6 +15,7 @@
 package org.eclipse.edc.jwt;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
@@ -25,15 +26,23 @@ import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int VERIFIER_CACHE_SIZE = 100;
+
     private final PublicKeyResolver publicKeyResolver;
     private final TokenValidationRulesRegistry rulesRegistry;
+    // verifiers are cached by resolved public key, and only once they verified a signature, so the token key ids can't grow the cache
+    private final Map<VerifierKey, JWSVerifier> verifiers = Collections.synchronizedMap(new LruCache<>(VERIFIER_CACHE_SIZE));
 
     public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry) {
         this.publicKeyResolver = publicKeyResolver;
@@ -47,7 +56,13 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         try {
             var signedJwt = SignedJWT.parse(token);
             var publicKeyId = signedJwt.getHeader().getKeyID();
-            var verifierCreationResult = createVerifier(signedJwt.getHeader(), publicKeyId);
+            var publicKey = publicKeyResolver.resolveKey(publicKeyId);
+            if (publicKey == null) {
+                return Result.failure("Failed to resolve public key with id: " + publicKeyId);
+            }
+
+            var verifierKey = new VerifierKey(publicKey, signedJwt.getHeader().getAlgorithm());
+            var verifierCreationResult = createVerifier(signedJwt.getHeader(), verifierKey);
 
             if (verifierCreationResult.failed()) {
                 return Result.failure(verifierCreationResult.getFailureMessages());
@@ -56,6 +71,7 @@ public class TokenValidationServiceImpl implements TokenValidationService {
             if (!signedJwt.verify(verifierCreationResult.getContent())) {
                 return Result.failure("Token verification failed");
             }
+            verifiers.putIfAbsent(verifierKey, verifierCreationResult.getContent());
 
             var tokenBuilder = ClaimToken.Builder.newInstance();
             signedJwt.getJWTClaimsSet().getClaims().entrySet().stream()
@@ -84,15 +100,18 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
-    private Result<JWSVerifier> createVerifier(JWSHeader header, String publicKeyId) {
-        var publicKey = publicKeyResolver.resolveKey(publicKeyId);
-        if (publicKey == null) {
-            return Result.failure("Failed to resolve public key with id: " + publicKeyId);
+    private Result<JWSVerifier> createVerifier(JWSHeader header, VerifierKey verifierKey) {
+        var cached = verifiers.get(verifierKey);
+        if (cached != null) {
+            return Result.success(cached);
         }
         try {
-            return Result.success(new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey));
+            return Result.success(new DefaultJWSVerifierFactory().createJWSVerifier(header, verifierKey.publicKey()));
         } catch (JOSEException e) {
             return Result.failure("Failed to create verifier");
         }
     }
+
+    private record VerifierKey(PublicKey publicKey, JWSAlgorithm algorithm) {
+    }
 }
@@ -36,6 +36,7 @@ import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
@@ -50,18 +51,19 @@ class TokenValidationServiceImplTest {
     private TokenValidationRule ruleMock;
     private final Instant now = Instant.now();
     private String publicKeyId;
+    private final AtomicReference<RSAPublicKey> resolvedKey = new AtomicReference<>();
 
     @BeforeEach
     public void setUp() throws JOSEException {
         key = testKey();
         ruleMock = mock(TokenValidationRule.class);
-        var publicKey = (RSAPublicKey) key.toPublicKey();
+        resolvedKey.set((RSAPublicKey) key.toPublicKey());
         publicKeyId = UUID.randomUUID().toString();
         var resolver = new PublicKeyResolver() {
             @Override
             public @Nullable
             RSAPublicKey resolveKey(String id) {
-                return id.equals(publicKeyId) ? publicKey : null;
+                return id.equals(publicKeyId) ? resolvedKey.get() : null;
             }
         };
         var rulesRegistry = new TokenValidationRulesRegistryImpl();
@@ -104,6 +106,35 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactly("Rule validation failed!");
     }
 
+    @Test
+    void validation_shouldUseRotatedKey_whenKeyIdIsReused() throws JOSEException {
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        var first = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), key.toPrivateKey()));
+
+        var rotated = testKey();
+        resolvedKey.set((RSAPublicKey) rotated.toPublicKey());
+        var signedWithOldKey = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), key.toPrivateKey()));
+        var signedWithRotatedKey = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), rotated.toPrivateKey()));
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(signedWithOldKey.failed()).isTrue();
+        assertThat(signedWithRotatedKey.succeeded()).isTrue();
+    }
+
+    @Test
+    void validation_shouldNotReuseVerifier_whenSignatureVerificationFailed() throws JOSEException {
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        var forged = testKey();
+
+        var signedWithOtherKey = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), forged.toPrivateKey()));
+        var signedWithOtherKeyAgain = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), forged.toPrivateKey()));
+        var signedWithKey = tokenValidationService.validate(createJwt(publicKeyId, createClaims(now), key.toPrivateKey()));
+
+        assertThat(signedWithOtherKey.failed()).isTrue();
+        assertThat(signedWithOtherKeyAgain.failed()).isTrue();
+        assertThat(signedWithKey.succeeded()).isTrue();
+    }
+
     private JWTClaimsSet createClaims(Instant exp) {
         return new JWTClaimsSet.Builder()
                 .claim("foo", "bar")
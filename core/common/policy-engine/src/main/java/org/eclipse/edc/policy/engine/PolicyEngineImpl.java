@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -52,6 +53,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, EvaluationPlan> evaluationPlans = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -65,10 +67,9 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var plan = evaluationPlans.computeIfAbsent(scope, this::createEvaluationPlan);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : plan.preValidators()) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
@@ -76,7 +77,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        plan.ruleFunctions().forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -86,7 +87,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         });
 
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        plan.constraintFunctions().forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -104,8 +105,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : plan.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -139,22 +139,47 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        evaluationPlans.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        evaluationPlans.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        evaluationPlans.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        evaluationPlans.clear();
+    }
+
+    /**
+     * Collects the validators and functions that apply to the scope, in the same order they would be applied by
+     * filtering the registrations on every evaluation.
+     */
+    private EvaluationPlan createEvaluationPlan(String scope) {
+        var delimitedScope = scope + ".";
+        return new EvaluationPlan(
+                scoped(preValidators, delimitedScope),
+                scoped(ruleFunctions, delimitedScope),
+                scoped(constraintFunctions, delimitedScope),
+                scoped(postValidators, delimitedScope)
+        );
+    }
+
+    private <T> List<T> scoped(Map<String, List<T>> registrations, String delimitedScope) {
+        return registrations.entrySet().stream()
+                .filter(entry -> scopeFilter(entry.getKey(), delimitedScope))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +191,16 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The validators and functions that apply to a scope. Plans are created on the first evaluation in a scope and
+     * dropped every time a validator or a function gets registered.
+     */
+    private record EvaluationPlan(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                                  List<RuleFunctionEntry<Rule>> ruleFunctions,
+                                  List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                                  List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
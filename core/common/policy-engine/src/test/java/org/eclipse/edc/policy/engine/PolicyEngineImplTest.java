@@ -196,6 +196,20 @@ class PolicyEngineImplTest {
         assertThat(policyEngine.evaluate("bar", policy, context).succeeded()).isTrue();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var policy = createTestPolicy();
+
+        assertThat(policyEngine.evaluate("bar", policy, context)).isSucceeded();
+
+        policyEngine.registerFunction("bar", Prohibition.class, "foo", (op, rv, duty, ctx) -> true);
+
+        // The prohibition registered after the first evaluation has to be considered as well
+        assertThat(policyEngine.evaluate("bar", policy, context)).isFailed();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     void validateAllScopesPrePostValidator(boolean preValidation) {
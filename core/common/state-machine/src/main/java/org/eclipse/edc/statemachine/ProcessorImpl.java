@@ -16,6 +16,9 @@ package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -30,6 +33,12 @@ import static java.util.function.Predicate.isEqual;
  * to apply the wait strategy or not.
  * <p>
  * An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
+ * <p>
+ * If an {@link ExecutorService} is set, the entities of a batch are processed concurrently on it, otherwise they are processed
+ * sequentially on the calling thread. In both cases the method returns only when the whole batch has been processed, so the
+ * same entity is never processed twice at the same time.
+ * <p>
+ * An after batch action can be registered, it is executed once the whole batch has been processed.
  *
  * @param <E> the entity that is processed
  */
@@ -38,6 +47,9 @@ public class ProcessorImpl<E> implements Processor {
     private final Supplier<Collection<E>> entities;
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
+    private ExecutorService executor;
+    private Runnable afterBatch = () -> {
+    };
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -45,14 +57,49 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> guard.predicate().test(entity)
-                        ? guard.process().apply(entity) :
-                        process.apply(entity))
+        try {
+            return processBatch();
+        } finally {
+            afterBatch.run();
+        }
+    }
+
+    private Long processBatch() {
+        if (executor == null) {
+            return entities.get().stream()
+                    .map(this::processEntity)
+                    .filter(isEqual(true))
+                    .count();
+        }
+
+        var futures = entities.get().stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> processEntity(entity), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
                 .filter(isEqual(true))
                 .count();
     }
 
+    private Boolean processEntity(E entity) {
+        return guard.predicate().test(entity)
+                ? guard.process().apply(entity) :
+                process.apply(entity);
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -75,6 +122,24 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Set the executor on which the entities of a batch are processed concurrently. If not set, or null, the entities
+         * are processed sequentially.
+         */
+        public Builder<E> executor(ExecutorService executor) {
+            processor.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set an action that is executed after every batch has been processed, also when the processing failed, e.g. to
+         * flush the writes collected while processing the batch.
+         */
+        public Builder<E> afterBatch(Runnable afterBatch) {
+            processor.afterBatch = afterBatch;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
@@ -26,6 +26,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,12 +36,15 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * The wait can be interrupted by {@link #wakeUp()}, e.g. when an entity is persisted in a state that needs processing.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final AtomicReference<AtomicBoolean> pendingIteration = new AtomicReference<>();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
@@ -86,6 +90,21 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Wake up the loop: if it's waiting, the next iteration starts immediately, if it's running an iteration, the
+     * following one won't wait even if no entities get processed.
+     */
+    public void wakeUp() {
+        if (!active.get()) {
+            return;
+        }
+        wakeUpRequested.set(true);
+        var iteration = pendingIteration.get();
+        if (iteration != null && iteration.compareAndSet(false, true)) {
+            executor.execute(loop());
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -105,13 +124,15 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
+            wakeUpRequested.set(false);
+
             var processed = processors.stream()
                     .mapToLong(Processor::process)
                     .sum();
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            var delay = processed == 0 && !wakeUpRequested.get() ? waitStrategy.waitForMillis() : 0;
 
             scheduleNextIterationIn(delay);
         } catch (Error e) {
@@ -125,7 +146,24 @@ public class StateMachineManager {
 
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        if (delayMillis == 0) {
+            pendingIteration.set(null);
+            return executor.schedule(loop(), 0, MILLISECONDS);
+        }
+
+        // the iteration is run either by the scheduler or by a wake-up, whichever comes first
+        var started = new AtomicBoolean();
+        pendingIteration.set(started);
+        var loop = loop();
+        // a wake-up that came after the check in performLogic but before the pending iteration was set did not see it
+        if (wakeUpRequested.get() && started.compareAndSet(false, true)) {
+            return executor.schedule(loop, 0, MILLISECONDS);
+        }
+        return executor.schedule(() -> {
+            if (started.compareAndSet(false, true)) {
+                loop.run();
+            }
+        }, delayMillis, MILLISECONDS);
     }
 
     public static class Builder {
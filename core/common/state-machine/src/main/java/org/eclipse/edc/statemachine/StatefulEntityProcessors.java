@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates the processors of a state machine that processes {@link StatefulEntity}s and keeps the state they share:
+ * <ul>
+ *     <li>the worker pools of the processed states, that get shut down by {@link #stop()}</li>
+ *     <li>the processed states, so that the state machine gets woken up by {@link #onSaved(StatefulEntity)} only when
+ *     an entity is saved in a state it processes, once the transaction that saves it has been committed</li>
+ *     <li>the leases released without any change on the entity while a batch is processed, that get released all at
+ *     once when the batch is over, see {@link #breakLease(StatefulEntity)}</li>
+ * </ul>
+ * Processors can be created and entities saved concurrently, so all the shared state is thread-safe.
+ *
+ * @param <E> the entity type.
+ */
+public class StatefulEntityProcessors<E extends StatefulEntity<E>> {
+
+    private final String name;
+    private final StateEntityStore<E> store;
+    private final TransactionContext transactionContext;
+    private final WorkerPoolConfiguration workerPoolConfiguration;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final List<ExecutorService> workerPools = new CopyOnWriteArrayList<>();
+    private final Set<Integer> processedStates = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Queue<E>> batchLeaseReleases = new ThreadLocal<>();
+    private volatile StateMachineManager stateMachineManager;
+
+    /**
+     * Constructor.
+     *
+     * @param name                    the state machine name, used to name the worker pools.
+     * @param store                   the store of the entities.
+     * @param transactionContext      the transaction context the entities are saved in.
+     * @param workerPoolConfiguration the worker pool configuration.
+     * @param executorInstrumentation the executor instrumentation.
+     */
+    public StatefulEntityProcessors(String name, StateEntityStore<E> store, TransactionContext transactionContext, WorkerPoolConfiguration workerPoolConfiguration, ExecutorInstrumentation executorInstrumentation) {
+        this.name = name;
+        this.store = store;
+        this.transactionContext = transactionContext;
+        this.workerPoolConfiguration = workerPoolConfiguration;
+        this.executorInstrumentation = executorInstrumentation;
+    }
+
+    /**
+     * Create the builder of a processor for the entities in a state: they are processed on the worker pool configured
+     * for the state and the leases released by the function are collected and released once the batch is over.
+     *
+     * @param state     the state code.
+     * @param stateName the state name.
+     * @param entities  the supplier of the entities to be processed.
+     * @param function  the processing function.
+     * @return the processor builder.
+     */
+    public ProcessorImpl.Builder<E> processor(int state, String stateName, Supplier<Collection<E>> entities, Function<E, Boolean> function) {
+        processedStates.add(state);
+        var executor = workerPoolConfiguration.createExecutor(name, stateName, executorInstrumentation);
+        if (executor != null) {
+            workerPools.add(executor);
+        }
+        var leaseReleases = new ConcurrentLinkedQueue<E>();
+        return ProcessorImpl.Builder.newInstance(entities)
+                .process(collectingLeaseReleases(leaseReleases, function))
+                .executor(executor)
+                .afterBatch(() -> releaseLeases(leaseReleases));
+    }
+
+    /**
+     * Set the state machine that gets woken up when an entity gets saved in one of the processed states.
+     *
+     * @param stateMachineManager the state machine.
+     */
+    public void wakeUpOnSave(StateMachineManager stateMachineManager) {
+        this.stateMachineManager = stateMachineManager;
+    }
+
+    /**
+     * Wake up the state machine if the entity has been saved in one of the processed states, so it doesn't have to
+     * wait for the next polling iteration. Meant to be registered as save listener on the store. The wake-up happens
+     * after the transaction has been committed, otherwise the state machine could look for the entity before it is
+     * visible and go back waiting.
+     *
+     * @param entity the saved entity.
+     */
+    public void onSaved(E entity) {
+        if (stateMachineManager != null && !entity.isPending() && processedStates.contains(entity.getState())) {
+            transactionContext.execute(() -> transactionContext.registerSynchronization(new WakeUpAfterCommit()));
+        }
+    }
+
+    /**
+     * Release the lease on the entity without saving it. While a batch is processed the release is deferred to the end
+     * of the batch, so that all the leases get released at once.
+     *
+     * @param entity the entity.
+     */
+    public void breakLease(E entity) {
+        var leaseReleases = batchLeaseReleases.get();
+        if (leaseReleases != null) {
+            leaseReleases.add(entity);
+        } else {
+            store.breakLease(entity);
+        }
+    }
+
+    /**
+     * Detach the state machine and shut down the worker pools.
+     */
+    public void stop() {
+        stateMachineManager = null;
+        workerPools.forEach(ExecutorService::shutdown);
+        workerPools.clear();
+    }
+
+    private Function<E, Boolean> collectingLeaseReleases(Queue<E> leaseReleases, Function<E, Boolean> function) {
+        return entity -> {
+            batchLeaseReleases.set(leaseReleases);
+            try {
+                return function.apply(entity);
+            } finally {
+                batchLeaseReleases.remove();
+            }
+        };
+    }
+
+    private void releaseLeases(Queue<E> leaseReleases) {
+        var entities = new ArrayList<E>();
+        for (var entity = leaseReleases.poll(); entity != null; entity = leaseReleases.poll()) {
+            entities.add(entity);
+        }
+        if (!entities.isEmpty()) {
+            store.breakLeases(entities);
+        }
+    }
+
+    private class WakeUpAfterCommit implements TransactionContext.TransactionSynchronization {
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCommit() {
+            var target = stateMachineManager;
+            if (target != null) {
+                target.wakeUp();
+            }
+        }
+    }
+}
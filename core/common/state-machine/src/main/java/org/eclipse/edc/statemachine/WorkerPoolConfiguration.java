@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.SettingResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Configures the number of worker threads used by a state machine to process the entities leased in a batch.
+ * Every state can have its own thread budget, states without an explicit budget use the default one.
+ * With a budget of 1 worker the entities are processed sequentially on the state machine thread.
+ */
+public class WorkerPoolConfiguration {
+
+    public static final int DEFAULT_WORKERS = 1;
+
+    private final Map<String, Integer> stateWorkers = new HashMap<>();
+    private int defaultWorkers = DEFAULT_WORKERS;
+
+    private WorkerPoolConfiguration() {
+    }
+
+    /**
+     * Configuration that processes all the states sequentially.
+     */
+    public static WorkerPoolConfiguration sequential() {
+        return new WorkerPoolConfiguration();
+    }
+
+    /**
+     * Read the configuration from the settings: the {@code key} setting contains the default number of workers, while
+     * {@code key.<state>} (e.g. {@code edc.transfer.state-machine.workers.starting}) overrides it for a single state.
+     *
+     * @param resolver the setting resolver.
+     * @param key      the setting key.
+     * @param states   the names of the states that can be configured.
+     * @return the configuration.
+     */
+    public static WorkerPoolConfiguration fromSettings(SettingResolver resolver, String key, Stream<String> states) {
+        var defaultWorkers = resolver.getSetting(key, DEFAULT_WORKERS);
+        var builder = Builder.newInstance().defaultWorkers(defaultWorkers);
+        states.map(WorkerPoolConfiguration::normalize)
+                .forEach(state -> builder.stateWorkers(state, resolver.getSetting(key + "." + state, defaultWorkers)));
+        return builder.build();
+    }
+
+    /**
+     * Return the number of workers for the state.
+     *
+     * @param state the state name.
+     * @return the number of workers.
+     */
+    public int workersFor(String state) {
+        return stateWorkers.getOrDefault(normalize(state), defaultWorkers);
+    }
+
+    /**
+     * Create the executor that will process the entities in the state. The executor is instrumented with the
+     * {@link ExecutorInstrumentation}, so queue depth and processing latency are reported per state.
+     *
+     * @param name            the state machine name.
+     * @param state           the state name.
+     * @param instrumentation the executor instrumentation.
+     * @return the executor, null if the entities in the state should be processed sequentially.
+     */
+    @Nullable
+    public ExecutorService createExecutor(String name, String state, ExecutorInstrumentation instrumentation) {
+        var workers = workersFor(state);
+        if (workers <= 1) {
+            return null;
+        }
+        var poolName = name + "-" + normalize(state);
+        var counter = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(workers, r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("StateMachineWorker-" + poolName + "-" + counter.incrementAndGet());
+            return thread;
+        });
+        return instrumentation.instrument(executor, poolName);
+    }
+
+    private static String normalize(String state) {
+        return state.toLowerCase(Locale.ROOT);
+    }
+
+    public static class Builder {
+
+        private final WorkerPoolConfiguration configuration;
+
+        private Builder() {
+            configuration = new WorkerPoolConfiguration();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder defaultWorkers(int workers) {
+            configuration.defaultWorkers = workers;
+            return this;
+        }
+
+        public Builder stateWorkers(String state, int workers) {
+            configuration.stateWorkers.put(normalize(state), workers);
+            return this;
+        }
+
+        public WorkerPoolConfiguration build() {
+            return configuration;
+        }
+    }
+}
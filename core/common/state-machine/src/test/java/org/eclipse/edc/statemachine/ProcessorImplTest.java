@@ -18,9 +18,15 @@ import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -53,6 +59,36 @@ class ProcessorImplTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    void shouldExecuteAfterBatchAction_whenBatchHasBeenProcessed() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var processed = new AtomicInteger();
+        var processedBeforeAfterBatch = new AtomicInteger(-1);
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(entity, entity))
+                .process(e -> processed.incrementAndGet() > 0)
+                .afterBatch(() -> processedBeforeAfterBatch.set(processed.get()))
+                .build();
+
+        processor.process();
+
+        assertThat(processedBeforeAfterBatch).hasValue(2);
+    }
+
+    @Test
+    void shouldExecuteAfterBatchAction_whenProcessingFails() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        Runnable afterBatch = mock();
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(entity))
+                .process(e -> {
+                    throw new RuntimeException("error");
+                })
+                .afterBatch(afterBatch)
+                .build();
+
+        assertThatThrownBy(processor::process).isInstanceOf(RuntimeException.class);
+        verify(afterBatch).run();
+    }
+
     @Test
     void shouldExecuteGuard_whenItsPredicateMatches() {
         var entity = TestEntity.Builder.newInstance().id("id").build();
@@ -88,4 +124,54 @@ class ProcessorImplTest {
         verify(process).apply(entity);
         verifyNoInteractions(guardProcess);
     }
+
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsSet() {
+        var entities = IntStream.range(0, 4).mapToObj(i -> TestEntity.Builder.newInstance().id("id" + i).build()).toList();
+        var latch = new CountDownLatch(entities.size());
+        var executor = Executors.newFixedThreadPool(entities.size());
+        try {
+            var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                    .process(e -> {
+                        latch.countDown();
+                        try {
+                            return latch.await(5, SECONDS);
+                        } catch (InterruptedException ex) {
+                            throw new RuntimeException(ex);
+                        }
+                    })
+                    .executor(executor)
+                    .build();
+
+            var count = processor.process();
+
+            assertThat(count).isEqualTo(entities.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowException_whenConcurrentProcessFails() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("id1").build(), TestEntity.Builder.newInstance().id("id2").build());
+        var processed = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                    .process(e -> {
+                        processed.incrementAndGet();
+                        if (e.getId().equals("id1")) {
+                            throw new IllegalStateException("error");
+                        }
+                        return true;
+                    })
+                    .executor(executor)
+                    .build();
+
+            assertThatThrownBy(processor::process).isInstanceOf(IllegalStateException.class);
+            assertThat(processed).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
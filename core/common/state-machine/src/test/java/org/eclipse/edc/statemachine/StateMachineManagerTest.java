@@ -28,7 +28,9 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +107,53 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldStartIterationImmediatelyWhenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldNotMissWakeUp_whenRequestedWhileSchedulingTheWait() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+        // the wake-up comes after the loop checked for it, but before the wait gets scheduled
+        when(waitStrategy.waitForMillis()).thenAnswer(i -> {
+            stateMachine.wakeUp();
+            return 60_000L;
+        }).thenReturn(60_000L);
+
+        stateMachine.start();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldIgnoreWakeUpWhenNotActive() {
+        var processor = mock(Processor.class);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.wakeUp();
+
+        verifyNoInteractions(processor);
+    }
+
     @Test
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(Processor.class);
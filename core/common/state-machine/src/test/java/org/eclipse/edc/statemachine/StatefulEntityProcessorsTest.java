@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.retry.TestEntity;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StatefulEntityProcessorsTest {
+
+    @SuppressWarnings("unchecked")
+    private final StateEntityStore<TestEntity> store = mock(StateEntityStore.class);
+    private final StateMachineManager stateMachineManager = mock(StateMachineManager.class);
+    private final TransactionContext transactionContext = mock(TransactionContext.class);
+    private final StatefulEntityProcessors<TestEntity> processors = new StatefulEntityProcessors<>("test", store, transactionContext, WorkerPoolConfiguration.sequential(), ExecutorInstrumentation.noop());
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, TransactionContext.TransactionBlock.class).execute();
+            return null;
+        }).when(transactionContext).execute(isA(TransactionContext.TransactionBlock.class));
+    }
+
+    @Test
+    void onSaved_shouldWakeUpAfterCommit_whenEntityIsInProcessedState() {
+        processors.processor(100, "STATE", List::of, e -> true).build();
+        processors.wakeUpOnSave(stateMachineManager);
+
+        processors.onSaved(TestEntity.Builder.newInstance().id("id").state(100).build());
+
+        var synchronization = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(synchronization.capture());
+        verifyNoInteractions(stateMachineManager);
+
+        synchronization.getValue().afterCommit();
+
+        verify(stateMachineManager).wakeUp();
+    }
+
+    @Test
+    void onSaved_shouldNotWakeUp_whenEntityIsNotInProcessedStateOrPending() {
+        processors.processor(100, "STATE", List::of, e -> true).build();
+        processors.wakeUpOnSave(stateMachineManager);
+
+        processors.onSaved(TestEntity.Builder.newInstance().id("id").state(200).build());
+        processors.onSaved(TestEntity.Builder.newInstance().id("id").state(100).pending(true).build());
+
+        verifyNoInteractions(stateMachineManager, transactionContext);
+    }
+
+    @Test
+    void onSaved_shouldNotWakeUp_whenStopped() {
+        processors.processor(100, "STATE", List::of, e -> true).build();
+        processors.wakeUpOnSave(stateMachineManager);
+        processors.stop();
+
+        processors.onSaved(TestEntity.Builder.newInstance().id("id").state(100).build());
+
+        verifyNoInteractions(stateMachineManager);
+    }
+
+    @Test
+    void breakLease_shouldReleaseLeasesAtTheEndOfTheBatch() {
+        var entity1 = TestEntity.Builder.newInstance().id("id1").state(100).build();
+        var entity2 = TestEntity.Builder.newInstance().id("id2").state(100).build();
+        var processor = processors.processor(100, "STATE", () -> List.of(entity1, entity2), e -> {
+            processors.breakLease(e);
+            return false;
+        }).build();
+
+        processor.process();
+
+        verify(store).breakLeases(List.of(entity1, entity2));
+        verify(store, never()).breakLease(any());
+    }
+
+    @Test
+    void breakLease_shouldReleaseLeaseImmediately_outsideOfABatch() {
+        var entity = TestEntity.Builder.newInstance().id("id").state(100).build();
+
+        processors.breakLease(entity);
+
+        verify(store).breakLease(entity);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.SettingResolver;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkerPoolConfigurationTest {
+
+    @Test
+    void sequential_shouldNotCreateExecutors() {
+        var configuration = WorkerPoolConfiguration.sequential();
+
+        assertThat(configuration.workersFor("ANY")).isEqualTo(1);
+        assertThat(configuration.createExecutor("name", "ANY", ExecutorInstrumentation.noop())).isNull();
+    }
+
+    @Test
+    void shouldUseStateWorkers_whenConfigured() {
+        var configuration = WorkerPoolConfiguration.Builder.newInstance()
+                .defaultWorkers(2)
+                .stateWorkers("STARTING", 8)
+                .build();
+
+        assertThat(configuration.workersFor("STARTING")).isEqualTo(8);
+        assertThat(configuration.workersFor("starting")).isEqualTo(8);
+        assertThat(configuration.workersFor("INITIAL")).isEqualTo(2);
+    }
+
+    @Test
+    void createExecutor_shouldInstrumentExecutor() {
+        var instrumentation = mock(ExecutorInstrumentation.class);
+        when(instrumentation.instrument(any(ExecutorService.class), any())).thenAnswer(i -> i.getArgument(0));
+        var configuration = WorkerPoolConfiguration.Builder.newInstance().defaultWorkers(4).build();
+
+        var executor = configuration.createExecutor("transfer-process", "STARTING", instrumentation);
+
+        try {
+            assertThat(executor).isNotNull();
+            verify(instrumentation).instrument(any(ExecutorService.class), eq("transfer-process-starting"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fromSettings() {
+        var config = ConfigFactory.fromMap(Map.of("key", "3", "key.starting", "10"));
+        SettingResolver resolver = config::getConfig;
+
+        var configuration = WorkerPoolConfiguration.fromSettings(resolver, "key", Stream.of("INITIAL", "STARTING"));
+
+        assertThat(configuration.workersFor("INITIAL")).isEqualTo(3);
+        assertThat(configuration.workersFor("STARTING")).isEqualTo(10);
+        assertThat(configuration.workersFor("OTHER")).isEqualTo(3);
+    }
+}
@@ -16,12 +16,15 @@ package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TypeTransformerRegistryImplTest {
 
@@ -48,6 +51,40 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldReturnTransformerOfSupertype() {
+        TypeTransformer<CharSequence, Long> transformer = mock();
+        when(transformer.getInputType()).thenReturn(CharSequence.class);
+        when(transformer.getOutputType()).thenReturn(Long.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor("a string", Long.class)).isSameAs(transformer);
+        assertThat(registry.transformerFor(new StringBuilder("a builder"), Long.class)).isSameAs(transformer);
+    }
+
+    @Test
+    void transformerFor_shouldReturnTheFirstRegisteredTransformer_whenMoreMatch() {
+        TypeTransformer<CharSequence, Integer> transformer = mock();
+        when(transformer.getInputType()).thenReturn(CharSequence.class);
+        when(transformer.getOutputType()).thenReturn(Integer.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor("a string", Integer.class)).isInstanceOf(StringIntegerTypeTransformer.class);
+        assertThat(registry.transformerFor("a string", Integer.class)).isInstanceOf(StringIntegerTypeTransformer.class);
+    }
+
+    @Test
+    void transformerFor_shouldConsiderTransformersRegisteredAfterLookup() {
+        assertThatThrownBy(() -> registry.transformerFor(4L, Integer.class)).isInstanceOf(EdcException.class);
+
+        TypeTransformer<Long, Integer> transformer = mock();
+        when(transformer.getInputType()).thenReturn(Long.class);
+        when(transformer.getOutputType()).thenReturn(Integer.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor(4L, Integer.class)).isSameAs(transformer);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -20,7 +20,9 @@ import org.eclipse.edc.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.contract.spi.ContractId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
@@ -28,6 +30,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -56,10 +60,19 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
+        var offerableDefinitions = offerableDefinitionsFor(agent);
+        if (offerableDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        if (offerableDefinitions.size() == 1) {
+            // a single definition can be pushed down to the asset index, as criteria are evaluated in conjunction
+            filter.addAll(offerableDefinitions.get(0).definition().getAssetsSelector());
+        }
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(filter).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerableDefinitions, asset))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -67,14 +80,37 @@ public class DatasetResolverImpl implements DatasetResolver {
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerableDefinitions = offerableDefinitionsFor(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerableDefinitions, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    /**
+     * Resolves the contract definitions for the agent, compiling their assets selectors and resolving their contract
+     * policies once. Definitions whose policy cannot be found are discarded, as they cannot produce offers.
+     */
+    private List<OfferableDefinition> offerableDefinitionsFor(ParticipantAgent agent) {
+        var policies = new HashMap<String, Optional<Policy>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> policies.computeIfAbsent(definition.getContractPolicyId(), this::findPolicy)
+                        .map(policy -> new OfferableDefinition(definition, compileSelector(definition), policy)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Optional<Policy> findPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId)).map(PolicyDefinition::getPolicy);
+    }
+
+    private Predicate<Asset> compileSelector(ContractDefinition definition) {
+        return definition.getAssetsSelector().stream()
+                .map(criterionToPredicateConverter::convert)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    private Dataset toDataset(List<OfferableDefinition> offerableDefinitions, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset, null); // TODO: data addresses should be retrieved
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -82,21 +118,17 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionToPredicateConverter::convert)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractId.create(contractDefinition.getId(), asset.getId());
-                        datasetBuilder.offer(contractId.toString(), policyDefinition.getPolicy().withTarget(asset.getId()));
-                    }
+        offerableDefinitions.stream()
+                .filter(offerable -> offerable.selector().test(asset))
+                .forEach(offerable -> {
+                    var contractId = ContractId.create(offerable.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offerable.policy().withTarget(asset.getId()));
                 });
 
         return datasetBuilder.build();
     }
 
+    private record OfferableDefinition(ContractDefinition definition, Predicate<Asset> selector, Policy policy) {
+    }
+
 }
@@ -54,7 +54,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -157,6 +159,48 @@ class DatasetResolverImplTest {
         ));
     }
 
+    @Test
+    void query_shouldPushDownSelector_whenSingleDefinition() {
+        var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+        var contractDefinition = contractDefinitionBuilder("definitionId")
+                .assetsSelector(List.of(definitionCriterion))
+                .contractPolicyId("contractPolicyId")
+                .build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(1);
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(definitionCriterion)));
+    }
+
+    @Test
+    void query_shouldResolvePolicyOnce_whenMultipleAssets() {
+        var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).contractPolicyId("contractPolicyId").build()).toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(10).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(2));
+        verify(policyStore, times(1)).findById("contractPolicyId");
+    }
+
+    @Test
+    void query_shouldNotQueryAssets_whenNoOfferableDefinition() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinitionBuilder("definitionId").build()));
+        when(policyStore.findById(any())).thenReturn(null);
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex);
+    }
+
     @Test
     void query_shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -30,12 +30,16 @@ import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.Processor;
-import org.eclipse.edc.statemachine.ProcessorImpl;
+import org.eclipse.edc.statemachine.StatefulEntityProcessors;
+import org.eclipse.edc.statemachine.WorkerPoolConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -62,17 +66,25 @@ public abstract class AbstractContractNegotiationManager {
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected ProtocolWebhook protocolWebhook;
     protected ContractNegotiationPendingGuard pendingGuard = it -> false;
+    protected WorkerPoolConfiguration workerPoolConfiguration = WorkerPoolConfiguration.sequential();
+    protected TransactionContext transactionContext;
+    protected StatefulEntityProcessors<ContractNegotiation> processors;
 
     abstract ContractNegotiation.Type type();
 
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
         var filter = new Criterion[] { hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name()) };
-        return ProcessorImpl.Builder.newInstance(() -> negotiationStore.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
+        return processors.processor(state.code(), state.name(), () -> negotiationStore.nextNotLeased(batchSize, filter), telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .build();
     }
 
+    private void onNegotiationSaved(ContractNegotiation negotiation) {
+        if (negotiation.getType() == type()) {
+            processors.onSaved(negotiation);
+        }
+    }
+
     private boolean setPending(ContractNegotiation contractNegotiation) {
         contractNegotiation.setPending(true);
         update(contractNegotiation);
@@ -188,6 +200,7 @@ public abstract class AbstractContractNegotiationManager {
             this.manager.clock = Clock.systemUTC(); // default implementation
             this.manager.telemetry = new Telemetry(); // default noop implementation
             this.manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            this.manager.transactionContext = new NoopTransactionContext(); // default noop implementation
         }
 
         public Builder<T> participantId(String id) {
@@ -260,6 +273,16 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> workerPoolConfiguration(WorkerPoolConfiguration workerPoolConfiguration) {
+            manager.workerPoolConfiguration = workerPoolConfiguration;
+            return this;
+        }
+
+        public Builder<T> transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return this;
+        }
+
         public T build() {
             Objects.requireNonNull(manager.participantId, "participantId");
             Objects.requireNonNull(manager.monitor, "monitor");
@@ -272,13 +295,15 @@ public abstract class AbstractContractNegotiationManager {
             Objects.requireNonNull(manager.policyStore, "policyStore");
 
             manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.processors = new StatefulEntityProcessors<>(manager.type().name().toLowerCase(Locale.ROOT) + "-contract-negotiation", manager.negotiationStore, manager.transactionContext, manager.workerPoolConfiguration, manager.executorInstrumentation);
+            manager.negotiationStore.registerSaveListener(manager::onNegotiationSaved);
 
             return manager;
         }
     }
 
     protected void breakLease(ContractNegotiation negotiation) {
-        negotiationStore.save(negotiation);
+        processors.breakLease(negotiation);
     }
 
 
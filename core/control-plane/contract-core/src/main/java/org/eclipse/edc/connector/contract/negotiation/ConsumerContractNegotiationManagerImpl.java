@@ -62,6 +62,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
                 .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
                 .build();
 
+        processors.wakeUpOnSave(stateMachineManager);
         stateMachineManager.start();
     }
 
@@ -69,6 +70,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        processors.stop();
     }
 
     /**
@@ -59,6 +59,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
                 .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
                 .build();
 
+        processors.wakeUpOnSave(stateMachineManager);
         stateMachineManager.start();
     }
 
@@ -66,6 +67,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        processors.stop();
     }
 
     @Override
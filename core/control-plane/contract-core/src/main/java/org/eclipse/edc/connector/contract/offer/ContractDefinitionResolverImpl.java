@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -56,8 +57,10 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
+        // many definitions usually share the same access policy, and its evaluation for the agent is the same for all of them
+        var accessResults = new HashMap<String, Result<Void>>();
         return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> isAccessGranted(definition, accessResults.computeIfAbsent(definition.getAccessPolicyId(), id -> evaluateAccessPolicy(id, agent))));
     }
 
     @Nullable
@@ -65,21 +68,26 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
         return Optional.of(definitionId)
                 .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+                .filter(definition -> isAccessGranted(definition, evaluateAccessPolicy(definition.getAccessPolicyId(), agent)))
                 .orElse(null);
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Evaluates an access policy for an agent.
      */
-    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+    private Result<Void> evaluateAccessPolicy(String accessPolicyId, ParticipantAgent agent) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
-        var accessResult = Optional.of(definition.getAccessPolicyId())
+        return Optional.ofNullable(accessPolicyId)
                 .map(policyStore::findById)
                 .map(PolicyDefinition::getPolicy)
                 .map(policy -> policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext))
-                .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
+                .orElse(Result.failure(format("Policy %s not found", accessPolicyId)));
+    }
 
+    /**
+     * Determines the applicability of a definition to an agent by the result of its access policy evaluation.
+     */
+    private boolean isAccessGranted(ContractDefinition definition, Result<Void> accessResult) {
         if (accessResult.failed()) {
             monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
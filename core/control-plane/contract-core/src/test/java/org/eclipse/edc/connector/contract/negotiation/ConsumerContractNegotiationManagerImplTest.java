@@ -78,6 +78,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -238,6 +239,21 @@ class ConsumerContractNegotiationManagerImplTest {
         });
     }
 
+    @Test
+    void requesting_whenShouldWait_shouldReleaseTheLeaseAtTheEndOfTheBatch() {
+        var negotiation = contractNegotiationBuilder().state(REQUESTING.code()).stateCount(2).stateTimestamp(Instant.now().toEpochMilli() + 1000L)
+                .contractOffer(contractOffer()).build();
+        when(store.nextNotLeased(anyInt(), stateIs(REQUESTING.code()))).thenReturn(List.of(negotiation)).thenReturn(emptyList());
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verifyNoInteractions(dispatcherRegistry);
+            verify(store).breakLeases(argThat(negotiations -> negotiations.contains(negotiation)));
+            verify(store, never()).breakLease(any());
+        });
+    }
+
     @Test
     void pendingGuard_shouldSetTheTransferPending_whenPendingGuardMatches() {
         when(pendingGuard.test(any())).thenReturn(true);
@@ -77,6 +77,21 @@ class ContractDefinitionResolverImplTest {
         verify(definitionStore).findAll(any());
     }
 
+    @Test
+    void definitionsFor_shouldEvaluateSharedAccessPolicyOnce() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenReturn(Stream.of(createContractDefinition(), createContractDefinition()));
+
+        var definitions = definitionService.definitionsFor(agent);
+
+        assertThat(definitions).hasSize(2);
+        verify(policyStore).findById("access");
+        verify(policyEngine).evaluate(eq(CATALOGING_SCOPE), eq(def.getPolicy()), isA(PolicyContext.class));
+    }
+
     @Test
     void definitionsFor_verifyDoesNotSatisfyAccessPolicy() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
@@ -29,13 +29,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isTransition;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
@@ -50,6 +53,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
     private final Clock clock;
     private final Map<String, Lease> leases;
     private final CriterionToPredicateConverter criterionConverter = new CriterionToPredicateConverterImpl();
+    private final List<Consumer<T>> saveListeners = new CopyOnWriteArrayList<>();
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, Map<String, Lease> leases) {
         queryResolver = new ReflectionBasedQueryResolver<>(clazz);
@@ -68,8 +72,31 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
 
     public void upsert(T entity) {
         acquireLease(entity.getId(), lockId);
-        entitiesById.put(entity.getId(), entity.copy());
+        var previous = entitiesById.put(entity.getId(), entity.copy());
         freeLease(entity.getId());
+        if (isTransition(previous, entity)) {
+            saveListeners.forEach(listener -> listener.accept(entity.copy()));
+        }
+    }
+
+    /**
+     * Release the lease on the entity without storing it again and without notifying the save listeners.
+     *
+     * @param id the entity id.
+     * @throws IllegalStateException if the entity is leased by someone else.
+     */
+    public void breakLease(String id) {
+        lockManager.writeLock(() -> {
+            if (isLeased(id) && !isLeasedBy(id, lockId)) {
+                throw new IllegalStateException("Cannot break lease, is leased by someone else!");
+            }
+            freeLease(id);
+            return null;
+        });
+    }
+
+    public void registerSaveListener(Consumer<T> listener) {
+        saveListeners.add(listener);
     }
 
     public void delete(String id) {
@@ -29,11 +29,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -80,6 +82,21 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
         store.upsert(negotiation);
     }
 
+    @Override
+    public void breakLease(ContractNegotiation entity) {
+        store.breakLease(entity.getId());
+    }
+
+    @Override
+    public void breakLeases(Collection<ContractNegotiation> entities) {
+        entities.forEach(this::breakLease);
+    }
+
+    @Override
+    public void registerSaveListener(Consumer<ContractNegotiation> listener) {
+        store.registerSaveListener(listener);
+    }
+
     @Override
     public void delete(String negotiationId) {
         var negotiation = store.find(negotiationId);
@@ -25,10 +25,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -97,4 +99,19 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
         store.upsert(entity);
     }
 
+    @Override
+    public void breakLease(TransferProcess entity) {
+        store.breakLease(entity.getId());
+    }
+
+    @Override
+    public void breakLeases(Collection<TransferProcess> entities) {
+        entities.forEach(this::breakLease);
+    }
+
+    @Override
+    public void registerSaveListener(Consumer<TransferProcess> listener) {
+        store.registerSaveListener(listener);
+    }
+
 }
@@ -55,10 +55,13 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.statemachine.Processor;
-import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.statemachine.StatefulEntityProcessors;
+import org.eclipse.edc.statemachine.WorkerPoolConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -134,6 +137,9 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
     private ProvisionResponsesHandler provisionResponsesHandler;
     private DeprovisionResponsesHandler deprovisionResponsesHandler;
     private TransferProcessPendingGuard pendingGuard = tp -> false;
+    private WorkerPoolConfiguration workerPoolConfiguration = WorkerPoolConfiguration.sequential();
+    private TransactionContext transactionContext;
+    private StatefulEntityProcessors<TransferProcess> processors;
 
     private TransferProcessManagerImpl() {
     }
@@ -151,6 +157,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
                 .processor(processTransfersInState(TERMINATING, this::processTerminating))
                 .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
                 .build();
+        processors.wakeUpOnSave(stateMachineManager);
         stateMachineManager.start();
     }
 
@@ -158,6 +165,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        processors.stop();
     }
 
     /**
@@ -528,8 +536,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return ProcessorImpl.Builder.newInstance(() -> transferProcessStore.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
+        return processors.processor(state.code(), state.name(), () -> transferProcessStore.nextNotLeased(batchSize, filter), telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .build();
     }
@@ -625,7 +632,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
     }
 
     private void breakLease(TransferProcess process) {
-        transferProcessStore.save(process);
+        processors.breakLease(process);
     }
 
     @NotNull
@@ -641,6 +648,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             manager.clock = Clock.systemUTC(); // default implementation
             manager.telemetry = new Telemetry(); // default noop implementation
             manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            manager.transactionContext = new NoopTransactionContext(); // default noop implementation
         }
 
         public static Builder newInstance() {
@@ -752,6 +760,16 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             return this;
         }
 
+        public Builder workerPoolConfiguration(WorkerPoolConfiguration workerPoolConfiguration) {
+            manager.workerPoolConfiguration = workerPoolConfiguration;
+            return this;
+        }
+
+        public Builder transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return this;
+        }
+
         public TransferProcessManagerImpl build() {
             Objects.requireNonNull(manager.manifestGenerator, "manifestGenerator cannot be null");
             Objects.requireNonNull(manager.provisionManager, "provisionManager cannot be null");
@@ -769,6 +787,8 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             Objects.requireNonNull(manager.deprovisionResponsesHandler, "deprovisionResponsesHandler cannot be null");
 
             manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.processors = new StatefulEntityProcessors<>("transfer-process", manager.transferProcessStore, manager.transactionContext, manager.workerPoolConfiguration, manager.executorInstrumentation);
+            manager.transferProcessStore.registerSaveListener(manager.processors::onSaved);
 
             return manager;
         }
@@ -366,7 +366,7 @@ class TransferProcessManagerImplTest {
         await().untilAsserted(() -> {
             verify(policyArchive, atLeastOnce()).findPolicyForContract(anyString());
             verify(provisionResponsesHandler).handle(any(), any());
-            verify(transferProcessStore).save(any());
+            verify(transferProcessStore).breakLeases(argThat(processes -> processes.contains(process)));
             verify(provisionResponsesHandler, never()).postActions(any());
         });
     }
@@ -555,7 +555,7 @@ class TransferProcessManagerImplTest {
 
         await().untilAsserted(() -> {
             verifyNoInteractions(dataFlowManager);
-            verify(transferProcessStore).save(argThat(p -> p.getState() == STARTING.code()));
+            verify(transferProcessStore).breakLeases(argThat(processes -> processes.contains(process)));
         });
     }
 
@@ -590,7 +590,7 @@ class TransferProcessManagerImplTest {
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(transferProcessStore).save(argThat(p -> p.getState() == STARTED.code()));
+            verify(transferProcessStore).breakLeases(argThat(processes -> processes.stream().allMatch(p -> p.getState() == STARTED.code())));
         });
     }
 
@@ -617,7 +617,7 @@ class TransferProcessManagerImplTest {
                 .build();
         when(transferProcessStore.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(process));
         manager.start();
-        await().untilAsserted(() -> verify(transferProcessStore, atLeastOnce()).save(eq(process)));
+        await().untilAsserted(() -> verify(transferProcessStore, atLeastOnce()).breakLeases(argThat(processes -> processes.contains(process))));
     }
 
     @Test
@@ -723,7 +723,7 @@ class TransferProcessManagerImplTest {
         await().untilAsserted(() -> {
             verify(policyArchive, atLeastOnce()).findPolicyForContract(anyString());
             verify(deprovisionResponsesHandler).handle(any(), any());
-            verify(transferProcessStore).save(any());
+            verify(transferProcessStore).breakLeases(argThat(processes -> processes.contains(transferProcess)));
             verify(deprovisionResponsesHandler, never()).postActions(any());
         });
     }
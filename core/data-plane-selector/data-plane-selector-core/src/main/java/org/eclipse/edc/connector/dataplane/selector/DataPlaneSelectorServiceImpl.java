@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneInstanceIndex;
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.service.spi.result.ServiceResult;
@@ -28,18 +31,26 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore.DATA_PLANE_INSTANCE_NOT_FOUND;
+
 public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
 
     private final DataPlaneSelector selector;
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final DataPlaneInstanceIndex index;
+    private final DataPlaneLoadRegistry loadRegistry;
 
-    public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+    public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry,
+                                        TransactionContext transactionContext, DataPlaneInstanceIndex index, DataPlaneLoadRegistry loadRegistry) {
         this.selector = selector;
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.index = index;
+        this.loadRegistry = loadRegistry;
     }
 
     @Override
@@ -68,14 +79,28 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
-            StoreResult<Void> result;
+        var result = transactionContext.execute(() -> {
+            StoreResult<Void> storeResult;
             if (store.findById(instance.getId()) == null) {
-                result = store.create(instance);
+                storeResult = store.create(instance);
             } else {
-                result = store.update(instance);
+                storeResult = store.update(instance);
             }
-            return ServiceResult.from(result);
+            return ServiceResult.from(storeResult);
         });
+        if (result.succeeded()) {
+            index.refresh();
+        }
+        return result;
+    }
+
+    @Override
+    public ServiceResult<Void> reportLoad(String instanceId, DataPlaneLoad load) {
+        // the instance may have been registered through another runtime since the last refresh of the index
+        if (index.findById(instanceId) == null && store.findById(instanceId) == null) {
+            return ServiceResult.notFound(format(DATA_PLANE_INSTANCE_NOT_FOUND, instanceId));
+        }
+        loadRegistry.report(instanceId, load);
+        return ServiceResult.success();
     }
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.core;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory snapshot of the {@link DataPlaneInstance}s contained in the {@link DataPlaneInstanceStore}, so the
+ * selection does not hit the store. The instances that can handle a pair of source and destination types are computed
+ * on the first lookup of the pair, and kept until the next refresh.
+ * <p>
+ * The snapshot is loaded on first use, then reloaded by {@link #refresh()}, which is invoked periodically and every time
+ * an instance gets added or updated through the {@link org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService}.
+ */
+public class DataPlaneInstanceIndex {
+
+    private final DataPlaneInstanceStore store;
+    private volatile Snapshot snapshot;
+
+    public DataPlaneInstanceIndex(DataPlaneInstanceStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Return the instances that can handle the source and the destination.
+     *
+     * @param source      the source address.
+     * @param destination the destination address.
+     * @return the instances, never null.
+     */
+    public List<DataPlaneInstance> find(DataAddress source, DataAddress destination) {
+        var current = snapshot();
+        return current.capable().computeIfAbsent(new TypePair(source.getType(), destination.getType()),
+                types -> current.instances().stream().filter(instance -> instance.canHandle(source, destination)).toList());
+    }
+
+    /**
+     * Return the instance with the given id.
+     *
+     * @param id the instance id.
+     * @return the instance, null if it is not contained in the snapshot.
+     */
+    @Nullable
+    public DataPlaneInstance findById(String id) {
+        return snapshot().instances().stream().filter(instance -> id.equals(instance.getId())).findFirst().orElse(null);
+    }
+
+    /**
+     * Reload the instances from the store.
+     */
+    public void refresh() {
+        snapshot = new Snapshot(store.getAll().toList());
+    }
+
+    private Snapshot snapshot() {
+        var current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record TypePair(String sourceType, String destinationType) {
+    }
+
+    private record Snapshot(List<DataPlaneInstance> instances, Map<TypePair, List<DataPlaneInstance>> capable) {
+        Snapshot(List<DataPlaneInstance> instances) {
+            this(instances, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.core;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the last load reported by every data plane instance. The selections of an instance made after its last report
+ * are counted as additional load, so a burst of selections gets spread over the instances instead of all going to the
+ * one that was the least loaded when the reports were received.
+ */
+public class DataPlaneLoadRegistry {
+
+    private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Record the load reported by the instance.
+     *
+     * @param instanceId the instance id.
+     * @param load       the reported load.
+     */
+    public void report(String instanceId, DataPlaneLoad load) {
+        loads.put(instanceId, new InstanceLoad(load.total()));
+    }
+
+    /**
+     * Record that the instance has been selected to run a data flow.
+     *
+     * @param instanceId the instance id.
+     */
+    public void selected(String instanceId) {
+        loads.computeIfAbsent(instanceId, id -> new InstanceLoad(0)).selected.incrementAndGet();
+    }
+
+    /**
+     * Return the estimated load of the instance, 0 if the instance never reported its load and has never been selected.
+     *
+     * @param instanceId the instance id.
+     * @return the estimated number of data flows the instance has to deal with.
+     */
+    public long load(String instanceId) {
+        var load = loads.get(instanceId);
+        return load == null ? 0 : load.reported + load.selected.get();
+    }
+
+    private static class InstanceLoad {
+        private final long reported;
+        private final AtomicLong selected = new AtomicLong();
+
+        InstanceLoad(long reported) {
+            this.reported = reported;
+        }
+    }
+}
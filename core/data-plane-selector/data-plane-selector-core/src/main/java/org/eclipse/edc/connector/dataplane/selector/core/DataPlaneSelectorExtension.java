@@ -21,34 +21,92 @@ import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceS
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.strategy.PowerOfTwoChoicesSelectionStrategy;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
 @Provides({ DataPlaneSelector.class, SelectionStrategyRegistry.class, DataPlaneSelectorService.class })
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    private static final long DEFAULT_REFRESH_INTERVAL = 10_000;
+
+    @Setting(value = "Interval in milliseconds between two reloads of the data plane instances kept in memory for the selection. " +
+            "A value of 0 or less disables the periodic reload, the instances are then reloaded only when they are changed through this runtime", type = "long", defaultValue = DEFAULT_REFRESH_INTERVAL + "")
+    public static final String REFRESH_INTERVAL = "edc.dataplane.selector.refresh.interval";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
     @Inject
     private TransactionContext transactionContext;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private DataPlaneInstanceIndex index;
+    private ScheduledExecutorService refreshExecutor;
+    private long refreshInterval;
+    private Monitor monitor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var selector = new DataPlaneSelectorImpl(instanceStore);
+        monitor = context.getMonitor();
+        refreshInterval = context.getSetting(REFRESH_INTERVAL, DEFAULT_REFRESH_INTERVAL);
+        index = new DataPlaneInstanceIndex(instanceStore);
+        var loadRegistry = new DataPlaneLoadRegistry();
+        var selector = new DataPlaneSelectorImpl(index);
 
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new PowerOfTwoChoicesSelectionStrategy(loadRegistry));
 
         context.registerService(DataPlaneSelector.class, selector);
         context.registerService(SelectionStrategyRegistry.class, strategy);
-        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, transactionContext));
+        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, transactionContext, index, loadRegistry));
+    }
+
+    @Override
+    public void start() {
+        if (refreshInterval <= 0) {
+            monitor.info(format("Periodic refresh of the data plane instances is disabled, as %s is %s", REFRESH_INTERVAL, refreshInterval));
+            return;
+        }
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("DataPlaneInstanceIndexRefresh");
+            thread.setDaemon(true);
+            return thread;
+        }), "DataPlaneInstanceIndexRefresh");
+        refreshExecutor.scheduleWithFixedDelay(this::refreshIndex, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private void refreshIndex() {
+        try {
+            index.refresh();
+        } catch (Throwable e) {
+            monitor.warning("Error refreshing the data plane instances", e);
+        }
     }
 
 }
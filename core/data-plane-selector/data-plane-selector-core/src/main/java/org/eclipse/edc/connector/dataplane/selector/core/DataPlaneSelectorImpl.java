@@ -16,22 +16,22 @@ package org.eclipse.edc.connector.dataplane.selector.core;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
-import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
-import java.util.stream.Collectors;
-
+/**
+ * Selects the instances from the in-memory {@link DataPlaneInstanceIndex}, so no store access happens on selection.
+ */
 public class DataPlaneSelectorImpl implements DataPlaneSelector {
 
-    private final DataPlaneInstanceStore instanceStore;
+    private final DataPlaneInstanceIndex index;
 
-    public DataPlaneSelectorImpl(DataPlaneInstanceStore instanceStore) {
-        this.instanceStore = instanceStore;
+    public DataPlaneSelectorImpl(DataPlaneInstanceIndex index) {
+        this.index = index;
     }
 
     @Override
     public DataPlaneInstance select(DataAddress sourceAddress, DataAddress destinationAddress, SelectionStrategy strategy) {
-        return strategy.apply(instanceStore.getAll().filter(di -> di.canHandle(sourceAddress, destinationAddress)).collect(Collectors.toList()));
+        return strategy.apply(index.find(sourceAddress, destinationAddress));
     }
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneLoadRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two {@link DataPlaneInstance}s at random and selects the least loaded of them, according to the
+ * {@link DataPlaneLoadRegistry}. Unlike always selecting the least loaded instance, this does not send all the
+ * concurrent selections to the same instance when the reported loads are stale, while still avoiding the overloaded
+ * instances.
+ */
+public class PowerOfTwoChoicesSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "powerOfTwoChoices";
+
+    private final DataPlaneLoadRegistry loadRegistry;
+
+    public PowerOfTwoChoicesSelectionStrategy(DataPlaneLoadRegistry loadRegistry) {
+        this.loadRegistry = loadRegistry;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected;
+        if (instances.size() == 1) {
+            selected = instances.get(0);
+        } else {
+            var random = ThreadLocalRandom.current();
+            var first = random.nextInt(instances.size());
+            var second = random.nextInt(instances.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            var candidate = instances.get(first);
+            var other = instances.get(second);
+            selected = loadRegistry.load(other.getId()) < loadRegistry.load(candidate.getId()) ? other : candidate;
+        }
+
+        loadRegistry.selected(selected.getId());
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.core;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneInstanceIndexTest {
+
+    private final DataPlaneInstanceStore store = mock();
+    private final DataPlaneInstanceIndex index = new DataPlaneInstanceIndex(store);
+
+    @Test
+    void find_shouldLoadInstancesOnce() {
+        when(store.getAll()).thenAnswer(i -> Stream.of(createInstance("instance1", "src"), createInstance("instance2", "other")));
+
+        var first = index.find(createAddress("src"), createAddress("dest"));
+        var second = index.find(createAddress("src"), createAddress("dest"));
+
+        assertThat(first).extracting(DataPlaneInstance::getId).containsExactly("instance1");
+        assertThat(second).isSameAs(first);
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void refresh_shouldReloadInstances() {
+        when(store.getAll())
+                .thenAnswer(i -> Stream.of(createInstance("instance1", "src")))
+                .thenAnswer(i -> Stream.of(createInstance("instance1", "src"), createInstance("instance2", "src")));
+        assertThat(index.find(createAddress("src"), createAddress("dest"))).hasSize(1);
+
+        index.refresh();
+
+        assertThat(index.find(createAddress("src"), createAddress("dest"))).hasSize(2);
+        assertThat(index.findById("instance2")).isNotNull();
+    }
+
+    @Test
+    void findById_notFound() {
+        when(store.getAll()).thenAnswer(i -> Stream.empty());
+
+        assertThat(index.findById("unknown")).isNull();
+    }
+
+    private DataAddress createAddress(String type) {
+        return DataAddress.Builder.newInstance().type(type).build();
+    }
+
+    private DataPlaneInstance createInstance(String id, String sourceType) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any")
+                .allowedSourceType(sourceType).allowedDestType("dest").build();
+    }
+}
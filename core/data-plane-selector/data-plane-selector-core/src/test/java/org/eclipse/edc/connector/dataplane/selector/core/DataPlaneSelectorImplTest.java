@@ -37,7 +37,7 @@ class DataPlaneSelectorImplTest {
     @BeforeEach
     void setUp() {
         storeMock = mock(DataPlaneInstanceStore.class);
-        selector = new DataPlaneSelectorImpl(storeMock);
+        selector = new DataPlaneSelectorImpl(new DataPlaneInstanceIndex(storeMock));
     }
 
     @Test
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneLoadRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PowerOfTwoChoicesSelectionStrategyTest {
+
+    private final DataPlaneLoadRegistry loadRegistry = new DataPlaneLoadRegistry();
+    private final PowerOfTwoChoicesSelectionStrategy strategy = new PowerOfTwoChoicesSelectionStrategy(loadRegistry);
+
+    @Test
+    void apply_noInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_singleInstance() {
+        var instance = createInstance("instance");
+
+        assertThat(strategy.apply(List.of(instance))).isSameAs(instance);
+        assertThat(loadRegistry.load("instance")).isEqualTo(1);
+    }
+
+    @RepeatedTest(20)
+    void apply_shouldSelectLeastLoaded() {
+        loadRegistry.report("busy", new DataPlaneLoad(10, 5));
+        loadRegistry.report("idle", new DataPlaneLoad(1, 0));
+
+        var result = strategy.apply(List.of(createInstance("busy"), createInstance("idle")));
+
+        assertThat(result.getId()).isEqualTo("idle");
+    }
+
+    @Test
+    void apply_shouldSpreadSelections_whenNoLoadIsReported() {
+        var instances = List.of(createInstance("first"), createInstance("second"));
+
+        for (var i = 0; i < 100; i++) {
+            strategy.apply(instances);
+        }
+
+        assertThat(loadRegistry.load("first") - loadRegistry.load("second")).isBetween(-1L, 1L);
+    }
+
+    @Test
+    void report_shouldResetSelections() {
+        var instance = createInstance("instance");
+        strategy.apply(List.of(instance));
+        strategy.apply(List.of(instance));
+
+        loadRegistry.report("instance", new DataPlaneLoad(1, 1));
+
+        assertThat(loadRegistry.load("instance")).isEqualTo(2);
+    }
+
+    private DataPlaneInstance createInstance(String id) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").build();
+    }
+}
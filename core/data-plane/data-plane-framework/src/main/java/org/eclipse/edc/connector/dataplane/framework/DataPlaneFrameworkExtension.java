@@ -16,12 +16,14 @@ package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl;
+import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneQueueMetrics;
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceTransferServiceImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataFlowMetrics;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
@@ -37,6 +39,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
 import java.util.concurrent.Executors;
 
 import static java.lang.String.format;
@@ -44,12 +47,12 @@ import static java.lang.String.format;
 /**
  * Provides core services for the Data Plane Framework.
  */
-@Provides({ DataPlaneManager.class, PipelineService.class, DataTransferExecutorServiceContainer.class, TransferServiceRegistry.class })
+@Provides({ DataPlaneManager.class, PipelineService.class, DataTransferExecutorServiceContainer.class, TransferServiceRegistry.class, DataPlaneQueueMetrics.class })
 @Extension(value = DataPlaneFrameworkExtension.NAME)
 public class DataPlaneFrameworkExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Framework";
     private static final int IN_MEMORY_STORE_CAPACITY = 1000;
-    @Setting
+    @Setting(value = "Maximum number of data flows that run concurrently on this runtime, the further ones wait in the data plane store", type = "int")
     private static final String QUEUE_CAPACITY = "edc.dataplane.queue.capacity";
     private static final int DEFAULT_QUEUE_CAPACITY = 10000;
     @Setting
@@ -58,6 +61,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
+    @Setting(value = "Maximum time in milliseconds an idle worker waits before polling the data plane store again", type = "long")
+    private static final String MAX_WAIT_TIMEOUT = "edc.dataplane.wait.max";
+    private static final long DEFAULT_MAX_WAIT_TIMEOUT = 10_000;
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
@@ -78,6 +84,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private Telemetry telemetry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DataFlowMetrics dataFlowMetrics;
+
     @Override
     public String name() {
         return NAME;
@@ -86,7 +98,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var pipelineService = new PipelineServiceImpl(monitor);
+        var metrics = dataFlowMetrics != null ? dataFlowMetrics : DataFlowMetrics.noop();
+        var pipelineService = new PipelineServiceImpl(monitor, metrics, clock);
         pipelineService.registerFactory(new OutputStreamDataSinkFactory()); // Added by default to support synchronous data transfer, i.e. pull data
         context.registerService(PipelineService.class, pipelineService);
         var transferService = new PipelineServiceTransferServiceImpl(pipelineService);
@@ -104,6 +117,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var maxWaitTimeout = context.getSetting(MAX_WAIT_TIMEOUT, DEFAULT_MAX_WAIT_TIMEOUT);
 
         monitor.debug(() -> format("Initializing DataPlaneManager with queueCapacity=%s, workers=%s, waitTimeout=%s, numThreads=%s", queueCapacity, workers, waitTimeout, numThreads));
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
@@ -111,15 +125,18 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .executorInstrumentation(executorInstrumentation)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .maxWaitTimeout(Math.max(waitTimeout, maxWaitTimeout))
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
                 .transferProcessClient(transferProcessApiClient)
                 .monitor(monitor)
                 .telemetry(telemetry)
+                .clock(clock)
                 .build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
+        context.registerService(DataPlaneQueueMetrics.class, dataPlaneManager.getQueueMetrics());
     }
 
     @Override
@@ -20,54 +20,72 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.QueuedRequest;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * The received requests are queued in the {@link DataPlaneStore}, the workers lease them from there, so with a persistent
+ * store the queued and the running requests survive a restart, and several runtimes can share the work. Backpressure is
+ * applied by leasing new requests only while the number of requests running on this runtime is lower than the queue
+ * capacity: the others wait in the store. The leases of the running requests are renewed periodically.
+ * <p>
+ * Idle workers wait to be signalled that a request has been received or completed on this runtime, polling the store
+ * with an exponential backoff in the meantime, as requests can be received by another runtime or have an expired lease.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final Semaphore received = new Semaphore(0);
+    private final AtomicLong lastLeaseRenewal = new AtomicLong();
     private int queueCapacity = 10000;
     private int workers = 1;
     private long waitTimeout = 100;
+    private long maxWaitTimeout = 10_000;
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
     private Monitor monitor;
     private Telemetry telemetry;
-    private BlockingQueue<DataFlowRequest> queue;
     private ExecutorService executorService;
     private DataPlaneStore store;
     private TransferServiceRegistry transferServiceRegistry;
 
     private TransferProcessApiClient transferProcessClient;
+    private Clock clock = Clock.systemUTC();
+    private Duration leaseRenewalInterval = Duration.ofSeconds(10);
+    private DataPlaneQueueMetrics queueMetrics;
 
     private DataPlaneManagerImpl() {
 
     }
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
         active.set(true);
         executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
         for (var i = 0; i < workers; i++) {
@@ -104,8 +122,15 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         var dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
-        store.received(dataRequestWithTraceContext.getProcessId());
+        store.received(dataRequestWithTraceContext);
+        received.release();
+    }
+
+    /**
+     * Returns the metrics of the work queue.
+     */
+    public DataPlaneQueueMetrics getQueueMetrics() {
+        return queueMetrics;
     }
 
     @Override
@@ -123,14 +148,29 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return store.getState(processId);
     }
 
+    @Nullable
+    @Override
+    public TransferProgress transferProgress(String processId) {
+        return pipelineService != null ? pipelineService.transferProgress(processId) : null;
+    }
+
     private void run() {
+        var idleWait = waitTimeout;
         while (active.get()) {
             DataFlowRequest request = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
+                renewLeases();
+                var next = running.size() < queueCapacity ? store.nextNotLeased(1) : List.<QueuedRequest>of();
+                if (next.isEmpty()) {
+                    var signalled = received.tryAcquire(idleWait, TimeUnit.MILLISECONDS);
+                    idleWait = signalled ? waitTimeout : Math.min(idleWait * 2, maxWaitTimeout);
                     continue;
                 }
+                idleWait = waitTimeout;
+                var queued = next.get(0);
+                request = queued.request();
+                queueMetrics.recordWaitTime(clock.millis() - queued.receivedAt());
+                running.add(request.getProcessId());
                 // propagate trace context for request into the current thread
                 telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
 
@@ -141,10 +181,11 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             } catch (Exception e) {
                 if (request == null) {
                     monitor.severe("Unable to dequeue data request", e);
+                    backOff();
                 } else {
                     monitor.severe("Error processing data request: " + request.getProcessId(), e);
                     // TODO persist error details
-                    store.completed(request.getProcessId());
+                    completed(request);
                 }
             }
         }
@@ -155,19 +196,48 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         if (transferService == null) {
             // Should not happen since resolving a transferService is part of payload validation
             // TODO persist error details
-            store.completed(request.getProcessId());
+            completed(request);
         } else {
             transferService.transfer(request).whenComplete((result, exception) -> {
 
-                if (request.isTrackable()) {
+                try {
+                    // the request is completed even if it is not trackable, to release its lease
                     // TODO persist TransferResult or error details
-                    store.completed(request.getProcessId());
+                    completed(request);
+                } finally {
+                    onTransferFinished(request, result, exception);
                 }
+            });
+        }
+    }
 
-                onTransferFinished(request, result, exception);
+    /**
+     * Waits before polling the store again, e.g. when it is not reachable.
+     */
+    private void backOff() {
+        try {
+            Thread.sleep(waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active.set(false);
+        }
+    }
 
+    private void completed(DataFlowRequest request) {
+        running.remove(request.getProcessId());
+        store.completed(request.getProcessId());
+        // a worker waiting for the running requests to drop below the capacity can lease the next one
+        received.release();
+    }
 
-            });
+    /**
+     * Renews the leases of the running requests, only one worker does it at every interval.
+     */
+    private void renewLeases() {
+        var now = clock.millis();
+        var last = lastLeaseRenewal.get();
+        if (now - last >= leaseRenewalInterval.toMillis() && lastLeaseRenewal.compareAndSet(last, now) && !running.isEmpty()) {
+            store.renewLeases(List.copyOf(running));
         }
     }
 
@@ -233,6 +303,15 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Maximum time an idle worker waits before polling the store again, the wait doubles from the wait timeout up
+         * to this value while the store has no requests to lease.
+         */
+        public Builder maxWaitTimeout(long maxWaitTimeout) {
+            manager.maxWaitTimeout = maxWaitTimeout;
+            return this;
+        }
+
         public Builder store(DataPlaneStore store) {
             manager.store = store;
             return this;
@@ -243,8 +322,19 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
+        public Builder leaseRenewalInterval(Duration leaseRenewalInterval) {
+            manager.leaseRenewalInterval = leaseRenewalInterval;
+            return this;
+        }
+
         public DataPlaneManagerImpl build() {
             Objects.requireNonNull(manager.transferProcessClient);
+            manager.queueMetrics = new DataPlaneQueueMetrics(manager.store);
             return manager;
         }
     }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.manager;
+
+import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the data plane work queue: the number of requests waiting to be processed, and the time the requests
+ * processed by this runtime have waited in the queue.
+ */
+public class DataPlaneQueueMetrics {
+
+    private final DataPlaneStore store;
+    private final AtomicLong dequeued = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    public DataPlaneQueueMetrics(DataPlaneStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Returns the number of requests waiting to be processed.
+     */
+    public long queueDepth() {
+        return store.queueDepth();
+    }
+
+    /**
+     * Returns the number of requests dequeued by this runtime.
+     */
+    public long dequeuedCount() {
+        return dequeued.get();
+    }
+
+    /**
+     * Returns the sum of the times, in milliseconds, the requests dequeued by this runtime waited in the queue.
+     */
+    public long totalWaitTimeMillis() {
+        return totalWaitTime.get();
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, a request dequeued by this runtime waited in the queue.
+     */
+    public long maxWaitTimeMillis() {
+        return maxWaitTime.get();
+    }
+
+    void recordWaitTime(long waitTimeMillis) {
+        dequeued.incrementAndGet();
+        totalWaitTime.addAndGet(waitTimeMillis);
+        maxWaitTime.accumulateAndGet(waitTimeMillis, Math::max);
+    }
+}
@@ -15,35 +15,53 @@
 package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataFlowMetrics;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+import org.eclipse.edc.connector.dataplane.util.metering.MeteredDataSource;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
- * Default pipeline service implementation.
+ * Default pipeline service implementation. Every source is wrapped in a {@link MeteredDataSource}, so the progress of
+ * the running transfers is tracked and reported to the {@link DataFlowMetrics} once they finish.
  */
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
+    private final Map<String, TransferProgress> running = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final DataFlowMetrics metrics;
+    private final Clock clock;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, DataFlowMetrics.noop(), Clock.systemUTC());
+    }
+
+    public PipelineServiceImpl(Monitor monitor, DataFlowMetrics metrics, Clock clock) {
         this.monitor = monitor;
+        this.metrics = metrics;
+        this.clock = clock;
     }
 
     @Override
@@ -92,8 +110,7 @@ public class PipelineServiceImpl implements PipelineService {
         }
         var source = sourceFactory.createSource(request);
         var sink = sinkFactory.createSink(request);
-        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return meteredTransfer(source, sink, request);
     }
 
     @Override
@@ -103,8 +120,7 @@ public class PipelineServiceImpl implements PipelineService {
             return noSinkFactory(request);
         }
         var sink = sinkFactory.createSink(request);
-        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return meteredTransfer(source, sink, request);
     }
 
     @Override
@@ -114,8 +130,7 @@ public class PipelineServiceImpl implements PipelineService {
             return noSourceFactory(request);
         }
         var source = sourceFactory.createSource(request);
-        monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return meteredTransfer(source, sink, request);
     }
 
     @Override
@@ -128,6 +143,38 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    @Nullable
+    @Override
+    public TransferProgress transferProgress(String processId) {
+        return running.get(processId);
+    }
+
+    private CompletableFuture<StreamResult<Void>> meteredTransfer(DataSource source, DataSink sink, DataFlowRequest request) {
+        var sourceType = request.getSourceDataAddress().getType();
+        var destinationType = request.getDestinationDataAddress().getType();
+        var processId = Objects.requireNonNullElse(request.getProcessId(), request.getId());
+        var progress = new TransferProgress(processId, sourceType, destinationType, clock.millis());
+        running.put(processId, progress);
+        monitor.debug(() -> format("Transferring from %s to %s.", sourceType, destinationType));
+        try {
+            return sink.transfer(new MeteredDataSource(source, progress, clock))
+                    .whenComplete((result, throwable) -> transferFinished(progress, throwable == null && result != null && result.succeeded()));
+        } catch (RuntimeException e) {
+            transferFinished(progress, false);
+            throw e;
+        }
+    }
+
+    private void transferFinished(TransferProgress progress, boolean succeeded) {
+        running.remove(progress.getProcessId(), progress);
+        var duration = Duration.ofMillis(clock.millis() - progress.getStartedAt());
+        try {
+            metrics.transferFinished(progress, duration, succeeded);
+        } catch (Exception e) {
+            monitor.warning("Failed to record the metrics of the transfer for process " + progress.getProcessId(), e);
+        }
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowRequest request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
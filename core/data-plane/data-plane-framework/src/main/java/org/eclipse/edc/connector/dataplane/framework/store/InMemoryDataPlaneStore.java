@@ -15,21 +15,37 @@
 package org.eclipse.edc.connector.dataplane.framework.store;
 
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.edc.util.collection.LruCache;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implements an in-memory, ephemeral store with a maximum capacity. If the store grows beyond capacity, the oldest entry will be evicted.
+ * The queued requests are not subject to the capacity, they are kept until they get leased. Leased requests are removed
+ * from the queue, so their leases never expire.
  */
 public class InMemoryDataPlaneStore implements DataPlaneStore {
     private final LruCache<String, State> cache;
+    private final Deque<QueuedRequest> queue = new ArrayDeque<>();
     private final LockManager lockManager;
+    private final Clock clock;
 
     public InMemoryDataPlaneStore(int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    public InMemoryDataPlaneStore(int capacity, Clock clock) {
         cache = new LruCache<>(capacity);
         lockManager = new LockManager(new ReentrantReadWriteLock());
+        this.clock = clock;
     }
 
     @Override
@@ -37,6 +53,35 @@ public class InMemoryDataPlaneStore implements DataPlaneStore {
         lockManager.writeLock(() -> cache.put(processId, State.RECEIVED));
     }
 
+    @Override
+    public void received(DataFlowRequest request) {
+        lockManager.writeLock(() -> {
+            cache.put(request.getProcessId(), State.RECEIVED);
+            return queue.add(new QueuedRequest(request, clock.millis()));
+        });
+    }
+
+    @Override
+    public List<QueuedRequest> nextNotLeased(int max) {
+        return lockManager.writeLock(() -> {
+            var leased = new ArrayList<QueuedRequest>();
+            while (leased.size() < max && !queue.isEmpty()) {
+                leased.add(queue.poll());
+            }
+            return leased;
+        });
+    }
+
+    @Override
+    public void renewLeases(Collection<String> processIds) {
+        // leased requests are not in the queue anymore, so there's nothing to renew
+    }
+
+    @Override
+    public long queueDepth() {
+        return lockManager.readLock(() -> (long) queue.size());
+    }
+
     @Override
     public void completed(String processId) {
         lockManager.writeLock(() -> cache.put(processId, State.COMPLETED));
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.time.Clock;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -53,6 +55,7 @@ class DataPlaneFrameworkExtensionTest {
         context.registerService(Telemetry.class, mock(Telemetry.class));
         context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
         context.registerService(TransferProcessApiClient.class, new NoopTransferProcessClient());
+        context.registerService(Clock.class, Clock.systemUTC());
     }
 
     @Test
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.framework.e2e;
 import org.eclipse.edc.connector.api.client.spi.transferprocess.NoopTransferProcessClient;
 import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
+import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
@@ -59,6 +60,7 @@ public class EndToEndTest {
                 .pipelineService(pipelineService)
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .transferProcessClient(new NoopTransferProcessClient())
+                .store(new InMemoryDataPlaneStore(10))
                 .build();
         manager.start();
         manager.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("bytes".getBytes())), createRequest("1").build()).get();
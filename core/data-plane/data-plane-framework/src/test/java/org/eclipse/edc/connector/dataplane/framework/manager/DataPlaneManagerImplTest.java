@@ -16,9 +16,11 @@ package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.NoopTransferProcessClient;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.QueuedRequest;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -27,9 +29,17 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -113,6 +123,7 @@ class DataPlaneManagerImplTest {
 
         doAnswer(i -> null).when(registry).resolveTransferService(request);
         doAnswer(i -> null).when(store).completed(request.getProcessId());
+        when(store.nextNotLeased(anyInt())).thenReturn(List.of(new QueuedRequest(request, 0))).thenReturn(List.of());
 
         dataPlaneManager.start();
         dataPlaneManager.initiateTransfer(request);
@@ -122,6 +133,61 @@ class DataPlaneManagerImplTest {
         });
     }
 
+    @Test
+    void verifyWorkDispatch_shouldKeepRequestsQueued_whenCapacityIsReached() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(1)
+                .workers(1)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .store(store)
+                .transferProcessClient(new NoopTransferProcessClient())
+                .monitor(mock(Monitor.class))
+                .build();
+        var otherRequest = createRequest().toBuilder().id("2").processId("2").build();
+        var transfer = new CompletableFuture<StreamResult<Void>>();
+        when(registry.resolveTransferService(any())).thenReturn(transferService);
+        when(transferService.transfer(any())).thenReturn(transfer);
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+        dataPlaneManager.initiateTransfer(otherRequest);
+
+        await().untilAsserted(() -> verify(transferService).transfer(any()));
+        assertThat(dataPlaneManager.getQueueMetrics().queueDepth()).isEqualTo(1);
+
+        transfer.complete(StreamResult.success());
+
+        await().untilAsserted(() -> {
+            verify(transferService, times(2)).transfer(any());
+            assertThat(dataPlaneManager.getQueueMetrics().queueDepth()).isZero();
+            assertThat(dataPlaneManager.getQueueMetrics().dequeuedCount()).isEqualTo(2);
+            assertThat(store.getState(request.getProcessId())).isEqualTo(DataPlaneStore.State.COMPLETED);
+        });
+    }
+
+    @Test
+    void verifyIdleWorkers_shouldBackOffPollingTheStore() {
+        var idleStore = mock(DataPlaneStore.class);
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .workers(1)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .maxWaitTimeout(80)
+                .transferServiceRegistry(registry)
+                .store(idleStore)
+                .transferProcessClient(new NoopTransferProcessClient())
+                .monitor(mock(Monitor.class))
+                .build();
+
+        dataPlaneManager.start();
+
+        // polling every 10 milliseconds would query the store about 50 times
+        await().pollDelay(Duration.ofMillis(500)).untilAsserted(() -> verify(idleStore, atMost(15)).nextNotLeased(anyInt()));
+        dataPlaneManager.stop();
+    }
+
     DataFlowRequest createRequest() {
         return DataFlowRequest.Builder.newInstance()
                 .id("1")
@@ -14,11 +14,15 @@
 
 package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataFlowMetrics;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+import org.eclipse.edc.connector.dataplane.util.metering.MeteredDataSource;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
@@ -27,19 +31,30 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PipelineServiceImplTest {
     Monitor monitor = mock(Monitor.class);
-    PipelineServiceImpl service = new PipelineServiceImpl(monitor);
+    DataFlowMetrics metrics = mock(DataFlowMetrics.class);
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+    PipelineServiceImpl service = new PipelineServiceImpl(monitor, metrics, clock);
     DataFlowRequest request = DataFlowRequest.Builder.newInstance()
             .id("1")
             .processId("1")
@@ -62,11 +77,50 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(request)).thenReturn(source);
         when(sinkFactory.canHandle(request)).thenReturn(true);
         when(sinkFactory.createSink(request)).thenReturn(sink);
-        when(sink.transfer(source)).thenReturn(completedFuture(StreamResult.success()));
+        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
 
         service.transfer(request);
 
-        verify(sink).transfer(eq(source));
+        verify(sink).transfer(argThat(it -> it instanceof MeteredDataSource metered && metered.getDelegate() == source));
+    }
+
+    @Test
+    void transfer_shouldExposeProgressWhileRunning_andRecordMetricsWhenFinished() {
+        var transfer = new CompletableFuture<StreamResult<Void>>();
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(any())).thenAnswer(invocation -> {
+            var metered = invocation.getArgument(0, DataSource.class);
+            try (var part = metered.openPartStream().getContent().findFirst().orElseThrow(); var stream = part.openStream()) {
+                stream.readAllBytes();
+            }
+            return transfer;
+        });
+
+        service.transfer(new InputStreamDataSource("part", new ByteArrayInputStream("content".getBytes())), request);
+
+        var progress = service.transferProgress("1");
+        assertThat(progress).isNotNull();
+        assertThat(progress.getParts()).isEqualTo(1);
+        assertThat(progress.getBytes()).isEqualTo(7);
+        assertThat(progress.getFirstByteAt()).isEqualTo(1000);
+
+        transfer.complete(StreamResult.success());
+
+        assertThat(service.transferProgress("1")).isNull();
+        verify(metrics).transferFinished(eq(progress), eq(Duration.ZERO), eq(true));
+    }
+
+    @Test
+    void transfer_shouldRecordFailure_whenSinkFails() {
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.error("error")));
+
+        service.transfer(source, request);
+
+        assertThat(service.transferProgress("1")).isNull();
+        verify(metrics).transferFinished(isA(TransferProgress.class), any(), eq(false));
     }
 
     @ParameterizedTest
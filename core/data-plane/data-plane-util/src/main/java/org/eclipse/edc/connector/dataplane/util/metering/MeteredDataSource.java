@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.metering;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.util.stream.Stream;
+
+/**
+ * Wraps a {@link DataSource} and records on the {@link TransferProgress} the parts that get opened and the bytes that
+ * get read from them, either through their streams or through random access.
+ * <p>
+ * Sinks that have a dedicated path for a specific source type can use {@link #getDelegate()} to get the wrapped source,
+ * they are then responsible to record the progress themselves.
+ */
+public class MeteredDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final TransferProgress progress;
+    private final Clock clock;
+
+    public MeteredDataSource(DataSource delegate, TransferProgress progress, Clock clock) {
+        this.delegate = delegate;
+        this.progress = progress;
+        this.clock = clock;
+    }
+
+    public DataSource getDelegate() {
+        return delegate;
+    }
+
+    public TransferProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Record that bytes have been moved outside the streams of the parts. The clock is read only until the first byte
+     * has been recorded, as this gets called on every read.
+     *
+     * @param count the number of bytes.
+     */
+    public void bytesRead(long count) {
+        if (progress.getFirstByteAt() == TransferProgress.NOT_STARTED) {
+            progress.bytesRead(count, clock.millis());
+        } else {
+            progress.bytesRead(count);
+        }
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        var result = delegate.openPartStream();
+        if (result.failed()) {
+            return result;
+        }
+        return StreamResult.success(result.getContent().map(MeteredPart::new));
+    }
+
+    private class MeteredPart implements Part {
+
+        private final Part part;
+
+        MeteredPart(Part part) {
+            this.part = part;
+            progress.partOpened();
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(part.openStream());
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return part.supportsRandomAccess();
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var content = part.read(offset, bytes);
+            bytesRead(content.length);
+            return content;
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b != -1) {
+                bytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var count = super.read(b, off, len);
+            bytesRead(count);
+            return count;
+        }
+    }
+}
@@ -14,34 +14,32 @@
 
 package org.eclipse.edc.connector.dataplane.util.sink;
 
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.edc.spi.response.StatusResult;
-import org.eclipse.edc.spi.result.AbstractResult;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
-import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
-import static org.eclipse.edc.spi.response.StatusResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Asynchronously streams data to a response client.
+ * Asynchronously streams data to a response client. Part content is piped directly to the client output stream, so memory usage is
+ * bounded by the copy buffer rather than by the size of the transferred data.
  */
 public class AsyncStreamingDataSink implements DataSink {
 
@@ -54,20 +52,45 @@ public class AsyncStreamingDataSink implements DataSink {
         /**
          * Registers a callback when an output stream is available for writing data.
          *
-         * @param consumer the callback
+         * @param callback the callback
          * @return true if the callback was successfully registered
          */
-        boolean register(Consumer<OutputStream> consumer);
+        boolean register(AsyncResponseCallback callback);
     }
 
+    /**
+     * Describes the content that will be written to the client once the output stream is available.
+     *
+     * @param outputStreamConsumer writes the content to the output stream
+     * @param mediaType            the media type of the content
+     * @param size                 the number of bytes that will be written, or {@link DataSource.Part#SIZE_UNKNOWN}
+     * @param range                the resolved byte range being written, or null if the whole content is written
+     * @param totalSize            the size of the whole content, or {@link DataSource.Part#SIZE_UNKNOWN}
+     */
+    public record AsyncResponseCallback(Consumer<OutputStream> outputStreamConsumer, String mediaType, long size,
+                                        @Nullable ByteRange range, long totalSize) {
+    }
+
+    private static final int RANGE_CHUNK_SIZE = 64 * 1024;
+
     private final AsyncResponseContext asyncContext;
     private final ExecutorService executorService;
     private final Monitor monitor;
+    private final ByteRange requestedRange;
 
     public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService, Monitor monitor) {
+        this(asyncContext, executorService, monitor, null);
+    }
+
+    /**
+     * Creates a sink that writes only the requested byte range of a part, if the part supports random access and its size is known.
+     * Otherwise, the whole part content is written.
+     */
+    public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService, Monitor monitor, @Nullable ByteRange requestedRange) {
         this.asyncContext = asyncContext;
         this.executorService = executorService;
         this.monitor = monitor;
+        this.requestedRange = requestedRange;
     }
 
     @Override
@@ -77,31 +100,96 @@ public class AsyncStreamingDataSink implements DataSink {
             return completedFuture(failure(streamResult.getFailure()));
         }
         var partStream = streamResult.getContent();
-        return partStream
-                .map(part -> supplyAsync(() -> transferPart(part), executorService))
-                .collect(asyncAllOf())
-                .thenApply(r -> processResults(r, partStream));
+        try {
+            return supplyAsync(partStream::toList, executorService)
+                    .thenCompose(this::transferParts)
+                    .whenComplete((result, throwable) -> close(partStream));
+        } catch (RejectedExecutionException e) {
+            close(partStream);
+            return failedFuture(e);
+        }
     }
 
-    @NotNull
-    private StreamResult<Void> processResults(List<? extends StatusResult<?>> results, Stream<DataSource.Part> partStream) {
-        close(partStream);
-        if (results.stream().anyMatch(AbstractResult::failed)) {
-            return error("Error transferring data");
+    /**
+     * The response can be resumed only once, so every part is written in order to the same output stream. A byte range
+     * is served only if the source provides a single part. The returned future completes when the content has been
+     * written to the output stream, or the write has failed.
+     */
+    private CompletableFuture<StreamResult<Void>> transferParts(List<DataSource.Part> parts) {
+        if (parts.isEmpty()) {
+            return completedFuture(success());
+        }
+        var written = new CompletableFuture<StreamResult<Void>>();
+        var callback = parts.size() == 1 ? singlePartCallback(parts.get(0), written) : multiPartCallback(parts, written);
+        if (!asyncContext.register(callback)) {
+            parts.forEach(this::close);
+            return completedFuture(error("Could not resume output stream write"));
         }
-        return success();
+        return written;
+    }
+
+    private AsyncResponseCallback singlePartCallback(DataSource.Part part, CompletableFuture<StreamResult<Void>> written) {
+        var range = resolveRange(part);
+        return range == null
+                ? new AsyncResponseCallback(completing(List.of(part), outputStream -> writeAll(part, outputStream), written), part.mediaType(), part.size(), null, part.size())
+                : new AsyncResponseCallback(completing(List.of(part), outputStream -> writeRange(part, range, outputStream), written), part.mediaType(), range.length(), range, part.size());
     }
 
-    @NotNull
-    private StatusResult<?> transferPart(DataSource.Part part) {
-        var result = asyncContext.register(outputStream -> {
+    private AsyncResponseCallback multiPartCallback(List<DataSource.Part> parts, CompletableFuture<StreamResult<Void>> written) {
+        var size = parts.stream().anyMatch(part -> part.size() == DataSource.Part.SIZE_UNKNOWN)
+                ? DataSource.Part.SIZE_UNKNOWN
+                : parts.stream().mapToLong(DataSource.Part::size).sum();
+        return new AsyncResponseCallback(completing(parts, outputStream -> parts.forEach(part -> writeAll(part, outputStream)), written), parts.get(0).mediaType(), size, null, size);
+    }
+
+    /**
+     * Completes the future with the outcome of the write and closes the parts once they have been written. A failure is
+     * rethrown, so that the response gets aborted.
+     */
+    private Consumer<OutputStream> completing(List<DataSource.Part> parts, Consumer<OutputStream> writer, CompletableFuture<StreamResult<Void>> written) {
+        return outputStream -> {
             try {
-                part.openStream().transferTo(outputStream);
-            } catch (IOException e) {
-                throw new EdcException(e);
+                writer.accept(outputStream);
+                written.complete(success());
+            } catch (RuntimeException e) {
+                written.complete(error("Error transferring data: " + e.getMessage()));
+                throw e;
+            } finally {
+                parts.forEach(this::close);
             }
-        });
-        return result ? StatusResult.success() : failure(FATAL_ERROR, "Could not resume output stream write");
+        };
+    }
+
+    @Nullable
+    private ByteRange resolveRange(DataSource.Part part) {
+        if (requestedRange == null || !part.supportsRandomAccess() || part.size() == DataSource.Part.SIZE_UNKNOWN) {
+            return null;
+        }
+        return requestedRange.resolve(part.size());
+    }
+
+    private void writeAll(DataSource.Part part, OutputStream outputStream) {
+        try (var inputStream = part.openStream()) {
+            inputStream.transferTo(outputStream);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private void writeRange(DataSource.Part part, ByteRange range, OutputStream outputStream) {
+        try {
+            var offset = range.first();
+            while (offset <= range.last()) {
+                var bytes = part.read(offset, Math.min(RANGE_CHUNK_SIZE, range.last() - offset + 1));
+                if (bytes.length == 0) {
+                    break;
+                }
+                outputStream.write(bytes);
+                offset += bytes.length;
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
     }
 
     private void close(AutoCloseable closeable) {
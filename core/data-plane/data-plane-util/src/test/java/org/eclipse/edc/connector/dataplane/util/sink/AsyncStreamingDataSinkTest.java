@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.connector.dataplane.util.sink;
 
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseCallback;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseContext;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,9 +28,11 @@ import org.mockito.stubbing.Answer;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
@@ -35,10 +40,15 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AsyncStreamingDataSinkTest {
@@ -60,11 +70,8 @@ class AsyncStreamingDataSinkTest {
 
         var outputStream = new ByteArrayOutputStream();
 
-        //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
-            @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
-            //noinspection unchecked
-            consumer.accept(outputStream);
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            invocation.getArgument(0, AsyncResponseCallback.class).outputStreamConsumer().accept(outputStream);
             return true;
         });
 
@@ -77,6 +84,120 @@ class AsyncStreamingDataSinkTest {
         assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
     }
 
+    @Test
+    void verify_streamingMultipleParts_writesEveryPartInOrderInOneResponse() throws Exception {
+        var first = mock(DataSource.Part.class);
+        when(first.openStream()).thenReturn(new ByteArrayInputStream("first".getBytes()));
+        when(first.size()).thenReturn(5L);
+        when(first.mediaType()).thenReturn("text/plain");
+        var second = mock(DataSource.Part.class);
+        when(second.openStream()).thenReturn(new ByteArrayInputStream("second".getBytes()));
+        when(second.size()).thenReturn(6L);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(first, second)));
+
+        var outputStream = new ByteArrayOutputStream();
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = invocation.getArgument(0, AsyncResponseCallback.class);
+            assertThat(callback.mediaType()).isEqualTo("text/plain");
+            assertThat(callback.size()).isEqualTo(11);
+            assertThat(callback.range()).isNull();
+            callback.outputStreamConsumer().accept(outputStream);
+            return true;
+        });
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor, ByteRange.parse("bytes=1-2"));
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toString()).isEqualTo("firstsecond");
+        verify(asyncContext, times(1)).register(any());
+    }
+
+    @Test
+    void verify_propagatesPartMetadata() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        when(part.mediaType()).thenReturn("text/plain");
+        when(part.size()).thenReturn((long) TEST_CONTENT.length);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = invocation.getArgument(0, AsyncResponseCallback.class);
+            assertThat(callback.mediaType()).isEqualTo("text/plain");
+            assertThat(callback.size()).isEqualTo(TEST_CONTENT.length);
+            assertThat(callback.range()).isNull();
+            callback.outputStreamConsumer().accept(new ByteArrayOutputStream());
+            return true;
+        });
+
+        var result = new AsyncStreamingDataSink(asyncContext, executorService, monitor).transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void verify_streamingRange() throws Exception {
+        var content = "0123456789".getBytes();
+        var part = mock(DataSource.Part.class);
+        when(part.supportsRandomAccess()).thenReturn(true);
+        when(part.size()).thenReturn((long) content.length);
+        when(part.mediaType()).thenReturn("text/plain");
+        when(part.read(anyLong(), anyLong())).thenAnswer(invocation -> {
+            var offset = invocation.getArgument(0, Long.class).intValue();
+            var length = invocation.getArgument(1, Long.class).intValue();
+            var bytes = new byte[length];
+            System.arraycopy(content, offset, bytes, 0, length);
+            return bytes;
+        });
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        var outputStream = new ByteArrayOutputStream();
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = invocation.getArgument(0, AsyncResponseCallback.class);
+            assertThat(callback.range()).isEqualTo(new ByteRange(2, 5));
+            assertThat(callback.size()).isEqualTo(4);
+            assertThat(callback.totalSize()).isEqualTo(content.length);
+            callback.outputStreamConsumer().accept(outputStream);
+            return true;
+        });
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor, ByteRange.parse("bytes=2-5"));
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toString()).isEqualTo("2345");
+        verify(part, never()).openStream();
+    }
+
+    @Test
+    void verify_rangeIgnored_whenRandomAccessNotSupported() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        when(part.size()).thenReturn((long) TEST_CONTENT.length);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        var outputStream = new ByteArrayOutputStream();
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = invocation.getArgument(0, AsyncResponseCallback.class);
+            assertThat(callback.range()).isNull();
+            callback.outputStreamConsumer().accept(outputStream);
+            return true;
+        });
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor, ByteRange.parse("bytes=1-2"));
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
+    }
+
     @Test
     void verify_exceptionThrown() throws Exception {
         var part = mock(DataSource.Part.class);
@@ -93,11 +214,8 @@ class AsyncStreamingDataSinkTest {
 
         doThrow(testException).when(outputStream).write(isA(byte[].class), anyInt(), anyInt());
 
-        //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
-            @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
-            //noinspection unchecked
-            consumer.accept(outputStream);
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            invocation.getArgument(0, AsyncResponseCallback.class).outputStreamConsumer().accept(outputStream);
             return true;
         });
 
@@ -106,6 +224,70 @@ class AsyncStreamingDataSinkTest {
         assertThatThrownBy(() -> future.get(2000, MILLISECONDS)).hasCause(testException);
     }
 
+    @Test
+    void verify_completesAndClosesParts_onlyOnceContentHasBeenWritten() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+        var registered = new CompletableFuture<AsyncResponseCallback>();
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            registered.complete(invocation.getArgument(0, AsyncResponseCallback.class));
+            return true;
+        });
+
+        var future = new AsyncStreamingDataSink(asyncContext, executorService, monitor).transfer(dataSource);
+
+        var callback = registered.get(2000, MILLISECONDS);
+        assertThat(future).isNotDone();
+        verify(part, never()).close();
+
+        var outputStream = new ByteArrayOutputStream();
+        callback.outputStreamConsumer().accept(outputStream);
+
+        assertThat(future.get(2000, MILLISECONDS).succeeded()).isTrue();
+        assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
+        verify(part).close();
+    }
+
+    @Test
+    void verify_failedResult_whenWriteFails() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+        var outputStream = mock(OutputStream.class);
+        doThrow(new IOException("connection reset")).when(outputStream).write(isA(byte[].class), anyInt(), anyInt());
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            // the web container handles the exceptions thrown while writing the response
+            try {
+                invocation.getArgument(0, AsyncResponseCallback.class).outputStreamConsumer().accept(outputStream);
+            } catch (EdcException ignored) {
+                // expected
+            }
+            return true;
+        });
+
+        var result = new AsyncStreamingDataSink(asyncContext, executorService, monitor).transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("connection reset");
+        verify(part).close();
+    }
+
+    @Test
+    void verify_failsWithRejection_whenExecutorIsSaturated() {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(mock(DataSource.Part.class))));
+        var saturatedExecutor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(saturatedExecutor).execute(any());
+
+        var future = new AsyncStreamingDataSink(asyncContext, saturatedExecutor, monitor).transfer(dataSource);
+
+        assertThatThrownBy(() -> future.get(2000, MILLISECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+        verify(asyncContext, never()).register(any());
+    }
+
     @BeforeEach
     void setUp() {
         asyncContext = mock(AsyncResponseContext.class);
@@ -24,8 +24,10 @@ dependencies {
     implementation(project(":core:common:jersey-providers"))
     implementation(project(":core:common:transform-core"))
     implementation(project(":extensions:common:http"))
+    implementation(project(":core:common:util"))
 
     implementation(libs.jakarta.rsApi)
+    implementation(libs.nimbus.jwt)
 
     testImplementation(project(":core:common:junit"))
 }
@@ -38,10 +38,12 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.model.AtomicConstraint;
 import org.eclipse.edc.policy.model.LiteralExpression;
 import org.eclipse.edc.protocol.dsp.api.configuration.message.DspRequestHandlerImpl;
+import org.eclipse.edc.protocol.dsp.api.configuration.message.VerifiedTokenCache;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -49,13 +51,17 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdArrayWriter;
 import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdInterceptor;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdReader;
 import org.eclipse.edc.web.jersey.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebServer;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
@@ -77,6 +83,15 @@ public class DspApiConfigurationExtension implements ServiceExtension {
     public static final String DEFAULT_DSP_CALLBACK_ADDRESS = "http://localhost:8282/api/v1/dsp";
     public static final String DSP_CALLBACK_ADDRESS = "edc.dsp.callback.address";
 
+    public static final long DEFAULT_TOKEN_VERIFICATION_CACHE_TTL = 300;
+    public static final int DEFAULT_TOKEN_VERIFICATION_CACHE_SIZE = 1000;
+
+    @Setting(value = "Maximum time in seconds the claims of a verified inbound token are reused, 0 disables the cache. Entries never outlive the token expiration", type = "long", defaultValue = DEFAULT_TOKEN_VERIFICATION_CACHE_TTL + "")
+    public static final String TOKEN_VERIFICATION_CACHE_TTL = "edc.dsp.token.verification.cache.ttl";
+
+    @Setting(value = "Maximum number of verified inbound tokens kept in the cache", type = "int", defaultValue = DEFAULT_TOKEN_VERIFICATION_CACHE_SIZE + "")
+    public static final String TOKEN_VERIFICATION_CACHE_SIZE = "edc.dsp.token.verification.cache.size";
+
     public static final int DEFAULT_PROTOCOL_PORT = 8282;
     public static final String DEFAULT_PROTOCOL_API_PATH = "/api/v1/dsp";
 
@@ -112,6 +127,9 @@ public class DspApiConfigurationExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -123,15 +141,26 @@ public class DspApiConfigurationExtension implements ServiceExtension {
         var dspWebhookAddress = context.getSetting(DSP_CALLBACK_ADDRESS, DEFAULT_DSP_CALLBACK_ADDRESS);
         context.registerService(DspApiConfiguration.class, new DspApiConfiguration(config.getContextAlias(), dspWebhookAddress));
         context.registerService(ProtocolWebhook.class, () -> dspWebhookAddress);
-        context.registerService(DspRequestHandler.class, new DspRequestHandlerImpl(context.getMonitor(), dspWebhookAddress, identityService, validatorRegistry, transformerRegistry));
+        context.registerService(DspRequestHandler.class, new DspRequestHandlerImpl(context.getMonitor(), dspWebhookAddress, inboundIdentityService(context), validatorRegistry, transformerRegistry));
 
         var jsonLdMapper = typeManager.getMapper(JSON_LD);
         webService.registerResource(config.getContextAlias(), new ObjectMapperProvider(jsonLdMapper));
-        webService.registerResource(config.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper));
+        webService.registerResource(config.getContextAlias(), new JerseyJsonLdReader(jsonLd, jsonLdMapper));
+        webService.registerResource(config.getContextAlias(), new JerseyJsonLdArrayWriter(jsonLd, jsonLdMapper));
+        webService.registerResource(config.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd));
 
         registerTransformers();
     }
 
+    private IdentityService inboundIdentityService(ServiceExtensionContext context) {
+        var ttl = context.getSetting(TOKEN_VERIFICATION_CACHE_TTL, DEFAULT_TOKEN_VERIFICATION_CACHE_TTL);
+        if (ttl <= 0) {
+            return identityService;
+        }
+        return new VerifiedTokenCache(identityService, clock, Duration.ofSeconds(ttl),
+                context.getSetting(TOKEN_VERIFICATION_CACHE_SIZE, DEFAULT_TOKEN_VERIFICATION_CACHE_SIZE));
+    }
+
     private void registerTransformers() {
         var mapper = typeManager.getMapper(JSON_LD);
         mapper.registerSubtypes(AtomicConstraint.class, LiteralExpression.class);
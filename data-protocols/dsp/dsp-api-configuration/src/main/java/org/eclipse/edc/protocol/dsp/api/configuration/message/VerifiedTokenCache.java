@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.api.configuration.message;
+
+import com.nimbusds.jwt.JWTParser;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * {@link IdentityService} decorator that keeps the {@link ClaimToken}s of the successfully verified inbound tokens, so a
+ * counterparty reusing the same token for a burst of requests gets it verified only once.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token and the audience, so the tokens are not kept in memory. Only tokens
+ * carrying an {@code exp} claim are cached, and an entry never outlives the expiration of its token nor the configured
+ * maximum time to live: a token is never accepted from the cache once the delegate would reject it as expired.
+ * Failed verifications are never cached.
+ */
+public class VerifiedTokenCache implements IdentityService {
+
+    private final IdentityService delegate;
+    private final Clock clock;
+    private final Duration maxTtl;
+    private final Map<CacheKey, CachedClaims> entries;
+
+    public VerifiedTokenCache(IdentityService delegate, Clock clock, Duration maxTtl, int capacity) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.entries = synchronizedMap(new LruCache<>(capacity));
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        return delegate.obtainClientCredentials(parameters);
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        var token = tokenRepresentation.getToken();
+        if (token == null) {
+            return delegate.verifyJwtToken(tokenRepresentation, audience);
+        }
+
+        var key = new CacheKey(hash(token), audience);
+        var cached = entries.get(key);
+        if (cached != null) {
+            if (clock.instant().isBefore(cached.expiresAt())) {
+                return Result.success(cached.claims());
+            }
+            entries.remove(key);
+        }
+
+        var result = delegate.verifyJwtToken(tokenRepresentation, audience);
+        if (result.succeeded()) {
+            var expiration = expiration(token);
+            if (expiration != null) {
+                var maxExpiration = clock.instant().plus(maxTtl);
+                entries.put(key, new CachedClaims(result.getContent(), expiration.isBefore(maxExpiration) ? expiration : maxExpiration));
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private Instant expiration(String token) {
+        try {
+            var expirationTime = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            return expirationTime == null ? null : expirationTime.toInstant();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record CacheKey(String tokenHash, String audience) {
+    }
+
+    private record CachedClaims(ClaimToken claims, Instant expiresAt) {
+    }
+}
@@ -20,7 +20,9 @@ import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdArrayWriter;
 import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdInterceptor;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdReader;
 import org.eclipse.edc.web.jersey.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebServer;
 import org.eclipse.edc.web.spi.WebService;
@@ -103,6 +105,8 @@ class DspApiConfigurationExtensionTest {
         extension.initialize(context);
 
         verify(webService).registerResource(eq(CONTEXT_ALIAS), isA(ObjectMapperProvider.class));
+        verify(webService).registerResource(eq(CONTEXT_ALIAS), isA(JerseyJsonLdReader.class));
+        verify(webService).registerResource(eq(CONTEXT_ALIAS), isA(JerseyJsonLdArrayWriter.class));
         verify(webService).registerResource(eq(CONTEXT_ALIAS), isA(JerseyJsonLdInterceptor.class));
     }
 
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.api.configuration.message;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private final IdentityService delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(delegate, clock, Duration.ofSeconds(300), 10);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void verifyJwtToken_shouldReuseVerifiedClaims() {
+        var claimToken = ClaimToken.Builder.newInstance().build();
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.success(claimToken));
+        var token = token(now.plusSeconds(60));
+
+        var first = cache.verifyJwtToken(token, "audience");
+        var second = cache.verifyJwtToken(tokenRepresentation(token.getToken()), "audience");
+
+        assertThat(first.getContent()).isSameAs(claimToken);
+        assertThat(second.getContent()).isSameAs(claimToken);
+        verify(delegate, times(1)).verifyJwtToken(any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldVerifyAgain_whenTokenExpired() {
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()), Result.failure("expired"));
+        var token = token(now.plusSeconds(60));
+        cache.verifyJwtToken(token, "audience");
+
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+        var result = cache.verifyJwtToken(token, "audience");
+
+        assertThat(result.failed()).isTrue();
+        verify(delegate, times(2)).verifyJwtToken(any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldVerifyAgain_whenMaxTtlElapsed() {
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()));
+        var token = token(now.plusSeconds(3600));
+        cache.verifyJwtToken(token, "audience");
+
+        when(clock.instant()).thenReturn(now.plusSeconds(301));
+        cache.verifyJwtToken(token, "audience");
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldNotShareClaims_betweenAudiences() {
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()));
+        var token = token(now.plusSeconds(60));
+
+        cache.verifyJwtToken(token, "audience");
+        cache.verifyJwtToken(token, "other-audience");
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldNotCacheFailures() {
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.failure("invalid"));
+        var token = token(now.plusSeconds(60));
+
+        cache.verifyJwtToken(token, "audience");
+        cache.verifyJwtToken(token, "audience");
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldNotCache_whenTokenHasNoExpiration() {
+        when(delegate.verifyJwtToken(any(), any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()));
+        var token = tokenRepresentation(new PlainJWT(new JWTClaimsSet.Builder().issuer("issuer").build()).serialize());
+
+        cache.verifyJwtToken(token, "audience");
+        cache.verifyJwtToken(token, "audience");
+
+        verify(delegate, times(2)).verifyJwtToken(any(), any());
+    }
+
+    private TokenRepresentation token(Instant expiration) {
+        var claims = new JWTClaimsSet.Builder().issuer("issuer").expirationTime(Date.from(expiration)).build();
+        return tokenRepresentation(new PlainJWT(claims).serialize());
+    }
+
+    private TokenRepresentation tokenRepresentation(String token) {
+        return TokenRepresentation.Builder.newInstance().token(token).build();
+    }
+}
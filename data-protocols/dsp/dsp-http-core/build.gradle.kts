@@ -22,6 +22,7 @@ dependencies {
     api(project(":spi:control-plane:transfer-spi"))
     api(project(":extensions:common:json-ld"))
     api(project(":data-protocols:dsp:dsp-http-spi"))
+    implementation(project(":core:common:util"))
 
     testImplementation(project(":core:common:junit"))
 }
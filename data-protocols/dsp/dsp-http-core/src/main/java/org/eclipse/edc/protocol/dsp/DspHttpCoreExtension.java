@@ -30,6 +30,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTermination
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.dispatcher.CachingIdentityService;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
 import org.eclipse.edc.protocol.dsp.spi.dispatcher.DspHttpRemoteMessageDispatcher;
@@ -37,15 +38,22 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenDecorator;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
 /**
@@ -76,6 +84,22 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @PolicyScope
     private static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_SKEW = 30;
+    private static final long DEFAULT_TOKEN_CACHE_REFRESH_AHEAD = 60;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+
+    @Setting(value = "Whether the tokens obtained for outgoing protocol messages are reused until they expire", type = "boolean", defaultValue = "true")
+    public static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+
+    @Setting(value = "Seconds before its expiration after which a cached token is not used anymore", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_EXPIRY_SKEW + "")
+    public static final String TOKEN_CACHE_EXPIRY_SKEW = "edc.dsp.token.cache.expiry.skew";
+
+    @Setting(value = "Seconds before its expiration after which a cached token gets refreshed in the background", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_REFRESH_AHEAD + "")
+    public static final String TOKEN_CACHE_REFRESH_AHEAD = "edc.dsp.token.cache.refresh.ahead";
+
+    @Setting(value = "Maximum number of tokens kept in the cache", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    public static final String TOKEN_CACHE_SIZE = "edc.dsp.token.cache.size";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -92,6 +116,12 @@ public class DspHttpCoreExtension implements ServiceExtension {
     private TokenDecorator decorator;
     @Inject
     private PolicyEngine policyEngine;
+    @Inject
+    private Clock clock;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService tokenRefreshExecutor;
 
     @Override
     public String name() {
@@ -108,7 +138,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, outboundIdentityService(context), td, policyEngine);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -116,11 +146,34 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public JsonLdRemoteMessageSerializer jsonLdRemoteMessageSerializer() {
         return new JsonLdRemoteMessageSerializerImpl(transformerRegistry, typeManager.getMapper(JSON_LD), jsonLdService);
     }
 
+    private IdentityService outboundIdentityService(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, true)) {
+            return identityService;
+        }
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("DspTokenRefresh");
+            thread.setDaemon(true);
+            return thread;
+        }), "DspTokenRefresh");
+        return new CachingIdentityService(identityService, clock, tokenRefreshExecutor, context.getMonitor(),
+                Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_SKEW, DEFAULT_TOKEN_CACHE_EXPIRY_SKEW)),
+                Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_AHEAD, DEFAULT_TOKEN_CACHE_REFRESH_AHEAD)),
+                context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE));
+    }
+
     private void registerNegotiationPolicyScopes(DspHttpRemoteMessageDispatcher dispatcher) {
         dispatcher.registerPolicyScope(ContractAgreementMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
         dispatcher.registerPolicyScope(ContractNegotiationEventMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
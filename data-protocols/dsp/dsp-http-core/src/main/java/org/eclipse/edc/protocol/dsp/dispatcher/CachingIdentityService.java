@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * {@link IdentityService} decorator that reuses the tokens obtained for outbound messages, so sending a message does
+ * not cost a token signature (and, depending on the identity service, a round-trip to the identity provider) every time.
+ * <p>
+ * Tokens are cached by audience, scope and additional parameters, i.e. the {@link TokenParameters} after they have been
+ * decorated, and only if the delegate reports their lifetime. A token is never handed out once it is closer to its
+ * expiration than the expiry skew; when it gets closer than the refresh-ahead window, a new token is obtained in the
+ * background while the current one keeps being used. Token verification is delegated as it is.
+ */
+public class CachingIdentityService implements IdentityService {
+
+    private final IdentityService delegate;
+    private final Clock clock;
+    private final Executor executor;
+    private final Monitor monitor;
+    private final Duration expirySkew;
+    private final Duration refreshAhead;
+    private final Map<CacheKey, CachedToken> tokens;
+
+    public CachingIdentityService(IdentityService delegate, Clock clock, Executor executor, Monitor monitor,
+                                  Duration expirySkew, Duration refreshAhead, int capacity) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.expirySkew = expirySkew;
+        this.refreshAhead = refreshAhead;
+        this.tokens = synchronizedMap(new LruCache<>(capacity));
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = new CacheKey(parameters.getAudience(), parameters.getScope(), new HashMap<>(parameters.getAdditional()));
+        var cached = tokens.get(key);
+        var now = clock.instant();
+        if (cached != null && now.isBefore(cached.expiresAt().minus(expirySkew))) {
+            if (!now.isBefore(cached.expiresAt().minus(refreshAhead)) && cached.refreshing().compareAndSet(false, true)) {
+                executor.execute(() -> refresh(key, parameters, cached));
+            }
+            return Result.success(cached.token());
+        }
+        return obtain(key, parameters);
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        return delegate.verifyJwtToken(tokenRepresentation, audience);
+    }
+
+    private Result<TokenRepresentation> obtain(CacheKey key, TokenParameters parameters) {
+        var result = delegate.obtainClientCredentials(parameters);
+        if (result.succeeded() && result.getContent().getExpiresIn() != null) {
+            var expiresAt = clock.instant().plusSeconds(result.getContent().getExpiresIn());
+            tokens.put(key, new CachedToken(result.getContent(), expiresAt, new AtomicBoolean()));
+        }
+        return result;
+    }
+
+    private void refresh(CacheKey key, TokenParameters parameters, CachedToken expiring) {
+        try {
+            var result = obtain(key, parameters);
+            if (result.failed()) {
+                monitor.warning("Failed to refresh token for %s: %s".formatted(key.audience(), result.getFailureDetail()));
+            }
+        } catch (Exception e) {
+            monitor.warning("Failed to refresh token for " + key.audience(), e);
+        } finally {
+            // let a later call retry if the token has not been replaced
+            expiring.refreshing().set(false);
+        }
+    }
+
+    private record CacheKey(String audience, String scope, Map<String, Object> additional) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant expiresAt, AtomicBoolean refreshing) {
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingIdentityServiceTest {
+
+    private final IdentityService delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private CachingIdentityService identityService;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        identityService = new CachingIdentityService(delegate, clock, refreshes::add, mock(Monitor.class),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), 10);
+    }
+
+    @Test
+    void obtainClientCredentials_shouldReuseToken() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(token("token", 600L));
+
+        var first = identityService.obtainClientCredentials(parameters("audience", "scope"));
+        var second = identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(delegate, times(1)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotShareToken_whenParametersDiffer() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(token("token", 600L));
+
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+        identityService.obtainClientCredentials(parameters("other-audience", "scope"));
+        identityService.obtainClientCredentials(parameters("audience", "other-scope"));
+        identityService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("audience").scope("scope").additional("key", "value").build());
+
+        verify(delegate, times(4)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenExpirationUnknown() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(token("token", null));
+
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenFailed() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.failure("error"));
+
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenCloseToExpiration() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(token("first", 600L), token("second", 600L));
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(571));
+        var result = identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(result.getContent().getToken()).isEqualTo("second");
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void obtainClientCredentials_shouldRefreshInBackground_whenInRefreshWindow() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(token("first", 600L), token("second", 600L));
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(545));
+        var current = identityService.obtainClientCredentials(parameters("audience", "scope"));
+        identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(current.getContent().getToken()).isEqualTo("first");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        var refreshed = identityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(refreshed.getContent().getToken()).isEqualTo("second");
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void verifyJwtToken_shouldDelegate() {
+        var token = TokenRepresentation.Builder.newInstance().token("token").build();
+        when(delegate.verifyJwtToken(token, "audience")).thenReturn(Result.failure("error"));
+
+        var result = identityService.verifyJwtToken(token, "audience");
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().audience(audience).scope(scope).build();
+    }
+
+    private Result<TokenRepresentation> token(String token, Long expiresIn) {
+        return Result.success(TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build());
+    }
+}
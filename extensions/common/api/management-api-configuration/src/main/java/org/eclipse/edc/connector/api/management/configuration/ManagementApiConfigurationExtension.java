@@ -31,7 +31,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdArrayWriter;
 import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdInterceptor;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdReader;
 import org.eclipse.edc.web.jersey.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebServer;
 import org.eclipse.edc.web.spi.WebService;
@@ -98,7 +100,9 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
 
         var jsonLdMapper = typeManager.getMapper(JSON_LD);
         webService.registerResource(webServiceConfiguration.getContextAlias(), new ObjectMapperProvider(jsonLdMapper));
-        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper));
+        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdReader(jsonLd, jsonLdMapper));
+        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdArrayWriter(jsonLd, jsonLdMapper));
+        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd));
     }
 
     @Provider
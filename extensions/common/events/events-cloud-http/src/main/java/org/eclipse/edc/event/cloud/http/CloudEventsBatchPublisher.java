@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.spi.http.FallbackFactories.retryWhenStatusNot2xxOr4xx;
+
+/**
+ * Publishes the events in batches, using the structured batch format of the
+ * <a href="https://github.com/cloudevents/spec/blob/v1.0.2/cloudevents/bindings/http-protocol-binding.md#33-batched-content-mode">CloudEvents HTTP binding</a>.
+ * <p>
+ * The events are buffered and sent once {@code batchSize} events are collected or when {@link #flush()} is called, which
+ * happens periodically. Requests are sent asynchronously and retried with the backoff of the {@link EdcHttpClient}
+ * retry policy; batches that still cannot be delivered are stored in the outbox, if any, and sent again on the next flush.
+ */
+class CloudEventsBatchPublisher implements EventSubscriber {
+    static final String CLOUDEVENTS_BATCH_JSON = "application/cloudevents-batch+json";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String SPEC_VERSION = "1.0";
+    private static final int OUTBOX_BATCHES_PER_FLUSH = 10;
+
+    private final String endpoint;
+    private final Monitor monitor;
+    private final TypeManager typeManager;
+    private final EdcHttpClient httpClient;
+    private final Clock clock;
+    private final Hostname hostname;
+    private final int batchSize;
+    private final CloudEventsOutbox outbox;
+    private final AtomicBoolean redelivering = new AtomicBoolean();
+    private List<Map<String, Object>> buffer = new ArrayList<>();
+
+    CloudEventsBatchPublisher(String endpoint, Monitor monitor, TypeManager typeManager, EdcHttpClient httpClient, Clock clock,
+                              Hostname hostname, int batchSize, @Nullable CloudEventsOutbox outbox) {
+        this.endpoint = endpoint;
+        this.monitor = monitor;
+        this.typeManager = typeManager;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.hostname = hostname;
+        this.batchSize = batchSize;
+        this.outbox = outbox;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        List<Map<String, Object>> batch = null;
+        synchronized (this) {
+            buffer.add(toCloudEvent(event));
+            if (buffer.size() >= batchSize) {
+                batch = takeBuffer();
+            }
+        }
+        if (batch != null) {
+            send(batch, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * Send the buffered events and the batches waiting in the outbox.
+     *
+     * @return completes once the buffered events have been delivered, or stored in the outbox if they could not be.
+     */
+    CompletableFuture<Void> flush() {
+        try {
+            var delivery = send(takeBuffer(), new AtomicBoolean());
+            redeliverOutbox();
+            return delivery;
+        } catch (Exception e) {
+            monitor.severe(format("Error flushing cloud events to endpoint %s", endpoint), e);
+            return completedFuture(null);
+        }
+    }
+
+    /**
+     * Send the buffered events and wait for their delivery, used on shutdown. If the delivery does not complete within
+     * the timeout the batch is stored in the outbox, if any, so that it is sent again after a restart.
+     *
+     * @param timeout the maximum time to wait for the delivery.
+     */
+    void flush(Duration timeout) {
+        var batch = takeBuffer();
+        if (batch.isEmpty()) {
+            return;
+        }
+        var body = typeManager.writeValueAsBytes(batch);
+        var settled = new AtomicBoolean();
+        try {
+            send(body, batch.size(), settled).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (settled.compareAndSet(false, true)) {
+                monitor.warning(format("Cloud events batch not delivered to endpoint %s within %d ms on shutdown", endpoint, timeout.toMillis()));
+                undelivered(body, batch.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (settled.compareAndSet(false, true)) {
+                undelivered(body, batch.size());
+            }
+        } catch (ExecutionException e) {
+            monitor.severe(format("Error flushing cloud events to endpoint %s", endpoint), e.getCause());
+        }
+    }
+
+    private synchronized List<Map<String, Object>> takeBuffer() {
+        var batch = buffer;
+        buffer = new ArrayList<>();
+        return batch;
+    }
+
+    private CompletableFuture<Void> send(List<Map<String, Object>> batch, AtomicBoolean settled) {
+        if (batch.isEmpty()) {
+            return completedFuture(null);
+        }
+        return send(typeManager.writeValueAsBytes(batch), batch.size(), settled);
+    }
+
+    /**
+     * Post the batch and store it in the outbox if it could not be delivered. The batch is handled only once: whoever
+     * sets {@code settled} first, the delivery outcome or a shutdown timeout, decides what happens to it.
+     */
+    private CompletableFuture<Void> send(byte[] body, int size, AtomicBoolean settled) {
+        return post(body).thenAccept(delivered -> {
+            if (settled.compareAndSet(false, true) && !delivered) {
+                undelivered(body, size);
+            }
+        });
+    }
+
+    private void undelivered(byte[] body, int size) {
+        if (outbox != null) {
+            outbox.store(body);
+        } else {
+            monitor.severe(format("Dropped %d cloud events that could not be sent to endpoint %s", size, endpoint));
+        }
+    }
+
+    private void redeliverOutbox() {
+        if (outbox == null || !redelivering.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture<Boolean> chain = completedFuture(true);
+        for (var entry : outbox.pending(OUTBOX_BATCHES_PER_FLUSH)) {
+            chain = chain.thenCompose(previous -> {
+                if (!previous) {
+                    return completedFuture(false);
+                }
+                return post(entry.body()).thenApply(delivered -> {
+                    if (delivered) {
+                        outbox.remove(entry);
+                    }
+                    return delivered;
+                });
+            });
+        }
+        chain.whenComplete((result, throwable) -> redelivering.set(false));
+    }
+
+    private CompletableFuture<Boolean> post(byte[] body) {
+        var request = new Request.Builder()
+                .url(endpoint)
+                .post(RequestBody.create(body, MediaType.get(CLOUDEVENTS_BATCH_JSON)))
+                .build();
+        return httpClient.executeAsync(request, List.of(retryWhenStatusNot2xxOr4xx()), response -> {
+                    if (!response.isSuccessful()) {
+                        monitor.severe(format("Error sending cloud events batch to endpoint %s, response status: %d", endpoint, response.code()));
+                    }
+                    return true;
+                })
+                .exceptionally(throwable -> {
+                    monitor.severe(format("Error sending cloud events batch to endpoint %s", endpoint), throwable);
+                    return false;
+                });
+    }
+
+    private Map<String, Object> toCloudEvent(EventEnvelope<?> event) {
+        var localDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getAt()), clock.getZone());
+        var cloudEvent = new LinkedHashMap<String, Object>();
+        cloudEvent.put("specversion", SPEC_VERSION);
+        cloudEvent.put("id", event.getId());
+        cloudEvent.put("source", hostname.get());
+        cloudEvent.put("type", event.getPayload().getClass().getName());
+        cloudEvent.put("time", ISO_OFFSET_DATE_TIME.format(localDateTime.atOffset(UTC)));
+        cloudEvent.put("datacontenttype", APPLICATION_JSON);
+        cloudEvent.put("data", event.getPayload());
+        return cloudEvent;
+    }
+}
@@ -20,12 +20,19 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Extension(value = "Cloud events HTTP")
 public class CloudEventsHttpExtension implements ServiceExtension {
@@ -33,6 +40,25 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Setting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
 
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_BATCH_FLUSH_INTERVAL = 1000;
+    private static final long DEFAULT_BATCH_SHUTDOWN_TIMEOUT = 5000;
+
+    @Setting(value = "Send the events in batches using the CloudEvents structured batch format", defaultValue = "false", type = "boolean")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED = "edc.events.cloudevents.batch.enabled";
+
+    @Setting(value = "Maximum number of events in a batch", defaultValue = DEFAULT_BATCH_SIZE + "", type = "int")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE = "edc.events.cloudevents.batch.size";
+
+    @Setting(value = "Interval in milliseconds after which a partial batch gets sent", defaultValue = DEFAULT_BATCH_FLUSH_INTERVAL + "", type = "long")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_FLUSH_INTERVAL = "edc.events.cloudevents.batch.flush.interval";
+
+    @Setting(value = "Time in milliseconds to wait on shutdown for the last batch to be delivered before storing it in the outbox", defaultValue = DEFAULT_BATCH_SHUTDOWN_TIMEOUT + "", type = "long")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SHUTDOWN_TIMEOUT = "edc.events.cloudevents.batch.shutdown.timeout";
+
+    @Setting(value = "Directory where the batches that could not be delivered are stored to be sent again. If not set undelivered batches are dropped")
+    static final String EDC_EVENTS_CLOUDEVENTS_OUTBOX_PATH = "edc.events.cloudevents.batch.outbox.path";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -48,11 +74,55 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private CloudEventsBatchPublisher batchPublisher;
+    private ScheduledExecutorService flushExecutor;
+    private long flushInterval;
+    private Duration shutdownTimeout;
+    private Monitor monitor;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
+        monitor = context.getMonitor();
+
+        if (context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED, false)) {
+            var batchSize = context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            var outboxPath = context.getSetting(EDC_EVENTS_CLOUDEVENTS_OUTBOX_PATH, null);
+            var outbox = outboxPath == null ? null : new FileSystemCloudEventsOutbox(Path.of(outboxPath), clock, monitor);
+            flushInterval = context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_FLUSH_INTERVAL, DEFAULT_BATCH_FLUSH_INTERVAL);
+            shutdownTimeout = Duration.ofMillis(context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_SHUTDOWN_TIMEOUT, DEFAULT_BATCH_SHUTDOWN_TIMEOUT));
+            batchPublisher = new CloudEventsBatchPublisher(endpoint, monitor, typeManager, httpClient, clock, hostname, batchSize, outbox);
+            eventRouter.register(Event.class, batchPublisher);
+        } else {
+            eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, monitor, typeManager, httpClient, clock, hostname));
+        }
+    }
 
-        eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+    @Override
+    public void start() {
+        if (batchPublisher != null) {
+            flushExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "cloud-events-batch-flush");
+            flushExecutor.scheduleWithFixedDelay(batchPublisher::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (flushExecutor != null) {
+            // a flush that is already running is not interrupted, the last batch is then sent and awaited here
+            flushExecutor.shutdown();
+            try {
+                if (!flushExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    monitor.warning("Cloud events batch flush did not complete on shutdown");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchPublisher.flush(shutdownTimeout);
+        }
     }
 
 }
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import java.util.List;
+
+/**
+ * Keeps the batches of cloud events that could not be delivered, so that they can be sent again later.
+ */
+interface CloudEventsOutbox {
+
+    /**
+     * Store a batch that could not be delivered.
+     *
+     * @param body the serialized batch.
+     */
+    void store(byte[] body);
+
+    /**
+     * Return the oldest stored batches.
+     *
+     * @param max the maximum number of batches to return.
+     * @return the stored batches, oldest first.
+     */
+    List<Entry> pending(int max);
+
+    /**
+     * Remove a batch once it has been delivered.
+     *
+     * @param entry the entry.
+     */
+    void remove(Entry entry);
+
+    record Entry(String id, byte[] body) {
+    }
+}
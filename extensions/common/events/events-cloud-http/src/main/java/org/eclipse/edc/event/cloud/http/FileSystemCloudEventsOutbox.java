@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/**
+ * {@link CloudEventsOutbox} that stores every batch as a file in a directory, so the undelivered events survive a
+ * restart of the connector. File names start with the storage timestamp, which keeps the batches in order.
+ */
+class FileSystemCloudEventsOutbox implements CloudEventsOutbox {
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    FileSystemCloudEventsOutbox(Path directory, Clock clock, Monitor monitor) {
+        this.directory = directory;
+        this.clock = clock;
+        this.monitor = monitor;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot create cloud events outbox directory %s", directory), e);
+        }
+    }
+
+    @Override
+    public void store(byte[] body) {
+        var id = format("%020d-%s", clock.millis(), UUID.randomUUID());
+        try {
+            var temporary = Files.write(directory.resolve(id + ".tmp"), body);
+            Files.move(temporary, directory.resolve(id + SUFFIX), ATOMIC_MOVE);
+        } catch (IOException e) {
+            monitor.severe(format("Cannot store undelivered cloud events in outbox %s", directory), e);
+        }
+    }
+
+    @Override
+    public List<Entry> pending(int max) {
+        try (var files = Files.list(directory)) {
+            var paths = files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .limit(max)
+                    .toList();
+            var entries = new ArrayList<Entry>();
+            for (var path : paths) {
+                var fileName = path.getFileName().toString();
+                entries.add(new Entry(fileName.substring(0, fileName.length() - SUFFIX.length()), Files.readAllBytes(path)));
+            }
+            return entries;
+        } catch (IOException e) {
+            monitor.severe(format("Cannot read cloud events outbox %s", directory), e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public void remove(Entry entry) {
+        try {
+            Files.deleteIfExists(directory.resolve(entry.id() + SUFFIX));
+        } catch (IOException e) {
+            monitor.warning(format("Cannot remove delivered batch %s from cloud events outbox", entry.id()), e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.Request;
+import okio.Buffer;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.http.EdcHttpClientException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CloudEventsBatchPublisherTest {
+
+    private static final String ENDPOINT = "http://localhost:8080/events";
+
+    private final Monitor monitor = mock();
+    private final TypeManager typeManager = new TypeManager();
+    private final EdcHttpClient httpClient = mock();
+    private final CloudEventsOutbox outbox = mock();
+    private final Clock clock = Clock.system(ZoneOffset.UTC);
+    private final CloudEventsBatchPublisher publisher = new CloudEventsBatchPublisher(ENDPOINT, monitor, typeManager, httpClient, clock, () -> "localhost", 2, outbox);
+
+    @Test
+    void on_shouldSendBatch_whenBatchSizeIsReached() throws IOException {
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(completedFuture(true));
+
+        publisher.on(envelope("event-1", "first"));
+        verifyNoInteractions(httpClient);
+        publisher.on(envelope("event-2", "second"));
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).executeAsync(captor.capture(), anyList(), any());
+        var request = captor.getValue();
+        assertThat(request.url().toString()).isEqualTo(ENDPOINT);
+        assertThat(request.body().contentType().toString()).isEqualTo(CloudEventsBatchPublisher.CLOUDEVENTS_BATCH_JSON);
+        var batch = readBatch(request);
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0))
+                .containsEntry("specversion", "1.0")
+                .containsEntry("id", "event-1")
+                .containsEntry("source", "localhost")
+                .containsEntry("type", TestEvent.class.getName())
+                .containsEntry("time", "2022-06-22T13:17:33.723Z")
+                .containsEntry("datacontenttype", "application/json");
+        assertThat(batch.get(0).get("data")).asInstanceOf(MAP).containsEntry("data", "first");
+        assertThat(batch.get(1)).containsEntry("id", "event-2");
+    }
+
+    @Test
+    void flush_shouldSendPartialBatch() throws IOException {
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(completedFuture(true));
+        publisher.on(envelope("event-1", "first"));
+
+        publisher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).executeAsync(captor.capture(), anyList(), any());
+        assertThat(readBatch(captor.getValue())).hasSize(1);
+    }
+
+    @Test
+    void flush_shouldNotSend_whenNoEventIsBuffered() {
+        publisher.flush();
+
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void flushWithTimeout_shouldWaitForDelivery() {
+        var response = new CompletableFuture<Boolean>();
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(response);
+        publisher.on(envelope("event-1", "first"));
+        CompletableFuture.runAsync(() -> response.complete(true), CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        publisher.flush(Duration.ofSeconds(5));
+
+        assertThat(response).isCompleted();
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void flushWithTimeout_shouldStoreBatchInOutboxOnce_whenDeliveryTimesOut() {
+        var response = new CompletableFuture<Boolean>();
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(response);
+        publisher.on(envelope("event-1", "first"));
+
+        publisher.flush(Duration.ofMillis(50));
+        response.completeExceptionally(new EdcHttpClientException("unavailable"));
+
+        verify(outbox, times(1)).store(any());
+    }
+
+    @Test
+    void shouldStoreBatchInOutbox_whenDeliveryFails() {
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(failedFuture(new EdcHttpClientException("unavailable")));
+
+        publisher.on(envelope("event-1", "first"));
+        publisher.on(envelope("event-2", "second"));
+
+        verify(outbox).store(any());
+    }
+
+    @Test
+    void flush_shouldRedeliverOutboxBatches_andRemoveDeliveredOnes() {
+        var first = new CloudEventsOutbox.Entry("first", "[]".getBytes());
+        var second = new CloudEventsOutbox.Entry("second", "[]".getBytes());
+        when(outbox.pending(anyInt())).thenReturn(List.of(first, second));
+        when(httpClient.executeAsync(any(), anyList(), any()))
+                .thenReturn(completedFuture(true))
+                .thenReturn(failedFuture(new EdcHttpClientException("unavailable")));
+
+        publisher.flush();
+
+        verify(outbox).remove(first);
+        verify(outbox, never()).remove(second);
+        verify(outbox, never()).store(any());
+    }
+
+    @Test
+    void flush_shouldStopRedelivery_whenBatchFails() {
+        var first = new CloudEventsOutbox.Entry("first", "[]".getBytes());
+        var second = new CloudEventsOutbox.Entry("second", "[]".getBytes());
+        when(outbox.pending(anyInt())).thenReturn(List.of(first, second));
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(failedFuture(new EdcHttpClientException("unavailable")));
+
+        publisher.flush();
+
+        verify(httpClient, times(1)).executeAsync(any(), anyList(), any());
+        verify(outbox, never()).remove(any());
+    }
+
+    @Test
+    void shouldDropBatch_whenDeliveryFailsAndNoOutboxIsConfigured() {
+        var publisher = new CloudEventsBatchPublisher(ENDPOINT, monitor, typeManager, httpClient, clock, () -> "localhost", 1, null);
+        when(httpClient.executeAsync(any(), anyList(), any())).thenReturn(failedFuture(new EdcHttpClientException("unavailable")));
+
+        publisher.on(envelope("event-1", "first"));
+
+        verify(monitor).severe(anyString());
+    }
+
+    private EventEnvelope<?> envelope(String id, String data) {
+        return EventEnvelope.Builder.newInstance()
+                .id(id)
+                .at(1655903853723L)
+                .payload(TestEvent.Builder.newInstance().data(data).build())
+                .build();
+    }
+
+    private List<Map<String, Object>> readBatch(Request request) throws IOException {
+        var buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return typeManager.readValue(buffer.readUtf8(), new TypeReference<>() {
+        });
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileSystemCloudEventsOutboxTest {
+
+    private final Clock clock = mock();
+
+    @Test
+    void pending_shouldReturnStoredBatchesInOrder(@TempDir Path directory) {
+        var outbox = new FileSystemCloudEventsOutbox(directory, clock, mock(Monitor.class));
+        when(clock.millis()).thenReturn(2000L, 1000L);
+
+        outbox.store("second".getBytes());
+        outbox.store("first".getBytes());
+
+        assertThat(outbox.pending(10)).extracting(entry -> new String(entry.body())).containsExactly("first", "second");
+        assertThat(outbox.pending(1)).hasSize(1);
+    }
+
+    @Test
+    void remove_shouldDeleteBatch(@TempDir Path directory) {
+        var outbox = new FileSystemCloudEventsOutbox(directory, clock, mock(Monitor.class));
+        when(clock.millis()).thenReturn(Instant.now().toEpochMilli());
+        outbox.store("batch".getBytes());
+
+        outbox.remove(outbox.pending(10).get(0));
+
+        assertThat(outbox.pending(10)).isEmpty();
+    }
+
+    @Test
+    void pending_shouldReturnBatchesStoredBeforeRestart(@TempDir Path directory) {
+        when(clock.millis()).thenReturn(Instant.now().toEpochMilli());
+        new FileSystemCloudEventsOutbox(directory, clock, mock(Monitor.class)).store("batch".getBytes());
+
+        var restarted = new FileSystemCloudEventsOutbox(directory, clock, mock(Monitor.class));
+
+        assertThat(restarted.pending(10)).singleElement().satisfies(entry -> assertThat(entry.body()).isEqualTo("batch".getBytes()));
+    }
+}
@@ -27,6 +27,8 @@ import org.eclipse.edc.web.jetty.PortMapping;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.List;
+
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.mockito.Mockito.mock;
 
@@ -49,10 +51,7 @@ public abstract class RestControllerTestBase {
         var jerseyService = new JerseyRestService(jetty, new TypeManager(), mock(JerseyConfiguration.class), monitor);
         jerseyService.registerResource("test", new ObjectMapperProvider(objectMapper));
         jerseyService.registerResource("test", controller());
-        var additionalResource = additionalResource();
-        if (additionalResource != null) {
-            jerseyService.registerResource("test", additionalResource);
-        }
+        additionalResources().forEach(resource -> jerseyService.registerResource("test", resource));
         jetty.start();
 
         jerseyService.start();
@@ -65,8 +64,8 @@ public abstract class RestControllerTestBase {
 
     protected abstract Object controller();
 
-    protected Object additionalResource() {
-        return null;
+    protected List<Object> additionalResources() {
+        return List.of();
     }
 
 }
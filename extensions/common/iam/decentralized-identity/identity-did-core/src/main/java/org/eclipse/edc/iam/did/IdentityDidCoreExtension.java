@@ -16,6 +16,7 @@ package org.eclipse.edc.iam.did;
 
 import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.RSAKey;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.parser.EcPrivateKeyParserFunction;
 import org.eclipse.edc.iam.did.parser.PrivateKeyWrapperParserFunction;
 import org.eclipse.edc.iam.did.parser.RsaPrivateKeyParserFunction;
@@ -27,16 +28,23 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 
-@Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
+@Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class, PublicKeyWrapperCache.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    private static final int DEFAULT_KEY_CACHE_SIZE = 1000;
+
+    @Setting(value = "Maximum number of public keys resolved from DID documents kept converted in memory, shared by the DID public key resolver and the identity service", type = "int", defaultValue = DEFAULT_KEY_CACHE_SIZE + "")
+    public static final String KEY_CACHE_SIZE = "edc.iam.did.key.cache.size";
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
@@ -50,7 +58,10 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         var didResolverRegistry = new DidResolverRegistryImpl();
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
-        var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
+        var keyCache = new PublicKeyWrapperCache(context.getSetting(KEY_CACHE_SIZE, DEFAULT_KEY_CACHE_SIZE));
+        context.registerService(PublicKeyWrapperCache.class, keyCache);
+
+        var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry, keyCache);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
 
         registerParsers(privateKeyResolver);
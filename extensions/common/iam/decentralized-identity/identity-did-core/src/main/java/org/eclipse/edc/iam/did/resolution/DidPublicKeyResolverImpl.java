@@ -14,7 +14,7 @@
 
 package org.eclipse.edc.iam.did.resolution;
 
-import org.eclipse.edc.iam.did.crypto.key.KeyConverter;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
@@ -24,9 +24,11 @@ import static org.eclipse.edc.iam.did.spi.document.DidConstants.ALLOWED_VERIFICA
 
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
     private final DidResolverRegistry resolverRegistry;
+    private final PublicKeyWrapperCache keyCache;
 
-    public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
+    public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry, PublicKeyWrapperCache keyCache) {
         this.resolverRegistry = resolverRegistry;
+        this.keyCache = keyCache;
     }
 
     @Override
@@ -48,7 +50,7 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         }
 
         var verificationMethod = didDocument.getVerificationMethod().get(0);
-        return KeyConverter.toPublicKeyWrapper(verificationMethod.getPublicKeyJwk(), verificationMethod.getId());
+        return keyCache.toPublicKeyWrapper(verificationMethod.getPublicKeyJwk(), verificationMethod.getId());
     }
 
 }
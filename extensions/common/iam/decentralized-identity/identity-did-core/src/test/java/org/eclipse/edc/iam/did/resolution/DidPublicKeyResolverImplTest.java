@@ -16,6 +16,7 @@ package org.eclipse.edc.iam.did.resolution;
 
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.ECKey;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.document.DidConstants;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.document.Service;
@@ -44,7 +45,7 @@ class DidPublicKeyResolverImplTest {
     private DidDocument didDocument;
 
     private final DidResolverRegistry resolverRegistry = mock(DidResolverRegistry.class);
-    private final DidPublicKeyResolverImpl resolver = new DidPublicKeyResolverImpl(resolverRegistry);
+    private final DidPublicKeyResolverImpl resolver = new DidPublicKeyResolverImpl(resolverRegistry, new PublicKeyWrapperCache(10));
 
     @BeforeEach
     public void setUp() throws JOSEException, IOException {
@@ -5,6 +5,7 @@ plugins {
 dependencies {
     api(project(":spi:common:identity-did-spi"))
     api(project(":spi:common:jwt-spi"))
+    implementation(project(":core:common:util"))
 
     implementation(libs.bouncyCastle.bcpkixJdk18on)
     testImplementation(project(":core:common:junit"))
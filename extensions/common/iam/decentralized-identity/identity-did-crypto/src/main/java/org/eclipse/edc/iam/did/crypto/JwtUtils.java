@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.result.Result;
 
 import java.text.ParseException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.Date;
@@ -43,6 +44,11 @@ import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
  */
 public class JwtUtils {
 
+    /**
+     * Validity of the tokens created by {@link #create(PrivateKeyWrapper, String, String, String, Clock)}.
+     */
+    public static final Duration TOKEN_VALIDITY = Duration.ofMinutes(10);
+
     /**
      * Creates a signed JWT {@link SignedJWT} that contains a set of claims and an issuer. Although all private key types are possible, in the context of Distributed Identity
      * using an Elliptic Curve key ({@code P-256}) is advisable.
@@ -60,7 +66,7 @@ public class JwtUtils {
                 .issuer(issuer)
                 .subject(subject)
                 .audience(audience)
-                .expirationTime(Date.from(clock.instant().plus(10, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS)))
+                .expirationTime(Date.from(clock.instant().plus(TOKEN_VALIDITY).truncatedTo(ChronoUnit.SECONDS)))
                 .jwtID(UUID.randomUUID().toString())
                 .build();
 
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.crypto.key;
+
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Caches the {@link PublicKeyWrapper}s converted by the {@link KeyConverter}, so the verification of the tokens
+ * signed with the same key does not parse the JWK and rebuild the public key every time. Entries are keyed by the key id
+ * and the whole JWK, so a rotated key never hits a stale entry.
+ */
+public class PublicKeyWrapperCache {
+
+    private final Map<CacheKey, PublicKeyWrapper> keys;
+
+    public PublicKeyWrapperCache(int capacity) {
+        keys = synchronizedMap(new LruCache<>(capacity));
+    }
+
+    /**
+     * Convert a JWK representation into a Public Key, reusing the previous conversion of the same key.
+     *
+     * @param jwk jwk representation of the public key
+     * @param id  An arbitrary ID that serves as 'kid' property
+     * @return A {@link PublicKeyWrapper}
+     */
+    public @NotNull Result<PublicKeyWrapper> toPublicKeyWrapper(Map<String, Object> jwk, String id) {
+        var key = new CacheKey(new HashMap<>(jwk), id);
+        var cached = keys.get(key);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        var result = KeyConverter.toPublicKeyWrapper(jwk, id);
+        if (result.succeeded()) {
+            keys.put(key, result.getContent());
+        }
+        return result;
+    }
+
+    private record CacheKey(Map<String, Object> jwk, String id) {
+    }
+}
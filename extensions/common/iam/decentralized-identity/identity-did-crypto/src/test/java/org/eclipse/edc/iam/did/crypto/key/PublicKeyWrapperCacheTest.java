@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.crypto.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicKeyWrapperCacheTest {
+
+    private final PublicKeyWrapperCache cache = new PublicKeyWrapperCache(10);
+
+    @Test
+    void toPublicKeyWrapper_shouldReuseConvertedKey() {
+        var first = cache.toPublicKeyWrapper(ecJwk("4mi45pgE5iPdhluNpmtnAFztWi8vxMrDSoXqD5ah2Rk"), "some-id");
+        var second = cache.toPublicKeyWrapper(ecJwk("4mi45pgE5iPdhluNpmtnAFztWi8vxMrDSoXqD5ah2Rk"), "some-id");
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.getContent()).isSameAs(first.getContent());
+    }
+
+    @Test
+    void toPublicKeyWrapper_shouldConvertAgain_whenIdChanges() {
+        var first = cache.toPublicKeyWrapper(ecJwk("4mi45pgE5iPdhluNpmtnAFztWi8vxMrDSoXqD5ah2Rk"), "some-id");
+        var second = cache.toPublicKeyWrapper(ecJwk("4mi45pgE5iPdhluNpmtnAFztWi8vxMrDSoXqD5ah2Rk"), "other-id");
+
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+    }
+
+    @Test
+    void toPublicKeyWrapper_shouldNotCacheFailures() {
+        var result = cache.toPublicKeyWrapper(Map.of("kty", "unknonwn"), "some-id");
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private Map<String, Object> ecJwk(String x) {
+        var jwk = new HashMap<String, Object>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("x", x);
+        jwk.put("y", "FdxTvkrkYtmxPgdmFpxRzZSVvcVUEksSzr1cH_kT58w");
+        return jwk;
+    }
+}
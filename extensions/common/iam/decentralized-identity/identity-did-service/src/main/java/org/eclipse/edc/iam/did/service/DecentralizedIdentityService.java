@@ -18,7 +18,7 @@ package org.eclipse.edc.iam.did.service;
 
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.iam.did.crypto.JwtUtils;
-import org.eclipse.edc.iam.did.crypto.key.KeyConverter;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.edc.iam.did.spi.document.DidConstants;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
@@ -47,21 +47,24 @@ public class DecentralizedIdentityService implements IdentityService {
     private final PrivateKeyWrapper privateKey;
     private final String issuer;
     private final Clock clock;
+    private final PublicKeyWrapperCache keyCache;
 
-    public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock) {
+    public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock,
+                                        PublicKeyWrapperCache keyCache) {
         this.resolverRegistry = resolverRegistry;
         this.credentialsVerifier = credentialsVerifier;
         this.monitor = monitor;
         this.privateKey = privateKey;
         this.issuer = issuer;
         this.clock = clock;
+        this.keyCache = keyCache;
     }
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
         var jwt = JwtUtils.create(privateKey, issuer, issuer, parameters.getAudience(), clock);
         var token = jwt.serialize();
-        return Result.success(TokenRepresentation.Builder.newInstance().token(token).build());
+        return Result.success(TokenRepresentation.Builder.newInstance().token(token).expiresIn(JwtUtils.TOKEN_VALIDITY.toSeconds()).build());
     }
 
     @Override
@@ -85,7 +88,7 @@ public class DecentralizedIdentityService implements IdentityService {
 
             //convert the POJO into a usable PK-wrapper:
             var publicKeyJwk = publicKey.get().getPublicKeyJwk();
-            var publicKeyWrapperResult = KeyConverter.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
+            var publicKeyWrapperResult = keyCache.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
             if (publicKeyWrapperResult.failed()) {
                 monitor.debug("Failed to convert JWK into public key wrapper");
                 return publicKeyWrapperResult.mapTo();
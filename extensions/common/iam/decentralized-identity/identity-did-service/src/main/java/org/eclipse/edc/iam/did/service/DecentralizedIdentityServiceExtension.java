@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.iam.did.service;
 
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
@@ -39,6 +40,7 @@ import static org.eclipse.edc.iam.did.spi.document.DidConstants.DID_URL_SETTING;
 public class DecentralizedIdentityServiceExtension implements ServiceExtension {
 
     public static final String NAME = "Distributed Identity Service";
+
     @Inject
     private DidResolverRegistry resolverRegistry;
 
@@ -51,6 +53,9 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private PublicKeyWrapperCache keyCache;
+
     @Override
     public String name() {
         return NAME;
@@ -68,6 +73,6 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
         var privateKey = privateKeyResolver.resolvePrivateKey(connectorName, PrivateKeyWrapper.class);
         Objects.requireNonNull(privateKey, "Couldn't resolve private key for " + connectorName);
 
-        return new DecentralizedIdentityService(resolverRegistry, credentialsVerifier, context.getMonitor(), privateKey, didUrl, clock);
+        return new DecentralizedIdentityService(resolverRegistry, credentialsVerifier, context.getMonitor(), privateKey, didUrl, clock, keyCache);
     }
 }
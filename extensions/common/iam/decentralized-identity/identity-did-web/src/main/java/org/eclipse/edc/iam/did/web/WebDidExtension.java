@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.did.web;
 
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.iam.did.web.resolution.DidDocumentCache;
 import org.eclipse.edc.iam.did.web.resolution.WebDidResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -25,6 +26,8 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.util.string.StringUtils;
 
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Initializes support for resolving Web DIDs.
@@ -40,6 +43,20 @@ public class WebDidExtension implements ServiceExtension {
      */
     @Setting
     private static final String USE_HTTPS_SCHEME = "edc.iam.did.web.use.https";
+
+    private static final long DEFAULT_CACHE_TTL_MIN = 60;
+    private static final long DEFAULT_CACHE_TTL_MAX = 3600;
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    @Setting(value = "Minimum time in seconds a resolved DID document is cached, whatever the Cache-Control header says", type = "long", defaultValue = DEFAULT_CACHE_TTL_MIN + "")
+    private static final String CACHE_TTL_MIN = "edc.iam.did.web.cache.ttl.min";
+
+    @Setting(value = "Maximum time in seconds a resolved DID document is cached before being revalidated", type = "long", defaultValue = DEFAULT_CACHE_TTL_MAX + "")
+    private static final String CACHE_TTL_MAX = "edc.iam.did.web.cache.ttl.max";
+
+    @Setting(value = "Maximum number of resolved DID documents kept in the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.iam.did.web.cache.size";
+
     @Inject
     private DidResolverRegistry resolverRegistry;
 
@@ -49,6 +66,9 @@ public class WebDidExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -62,7 +82,12 @@ public class WebDidExtension implements ServiceExtension {
 
         var httpClient = getHttpClient(context);
 
-        var resolver = new WebDidResolver(httpClient, useHttpsScheme, mapper, monitor);
+        var cache = new DidDocumentCache(clock,
+                Duration.ofSeconds(context.getSetting(CACHE_TTL_MIN, DEFAULT_CACHE_TTL_MIN)),
+                Duration.ofSeconds(context.getSetting(CACHE_TTL_MAX, DEFAULT_CACHE_TTL_MAX)),
+                context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE));
+
+        var resolver = new WebDidResolver(httpClient, useHttpsScheme, mapper, monitor, cache);
 
         resolverRegistry.register(resolver);
     }
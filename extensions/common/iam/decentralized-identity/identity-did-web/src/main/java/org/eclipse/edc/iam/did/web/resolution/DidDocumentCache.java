@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.web.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Caches the resolved DID documents following the HTTP caching headers of the {@code did.json} responses.
+ * <p>
+ * The time to live of a document is taken from the {@code max-age} directive of the {@code Cache-Control} header
+ * ({@code no-cache} and {@code no-store} mean no time to live), and it is always bounded by the configured minimum and
+ * maximum, so a counterparty cannot force a document fetch on every request. Expired documents are kept, so they can be
+ * revalidated with their {@code ETag} instead of being downloaded and parsed again.
+ */
+public class DidDocumentCache {
+
+    private static final String MAX_AGE = "max-age=";
+
+    private final Clock clock;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final Map<String, Entry> entries;
+
+    public DidDocumentCache(Clock clock, Duration minTtl, Duration maxTtl, int capacity) {
+        this.clock = clock;
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.entries = synchronizedMap(new LruCache<>(capacity));
+    }
+
+    /**
+     * Return the cached entry of the DID, either fresh or expired.
+     *
+     * @param did the DID.
+     * @return the entry, null if the DID has never been cached or has been evicted.
+     */
+    @Nullable
+    public Entry get(String did) {
+        return entries.get(did);
+    }
+
+    /**
+     * Cache a downloaded document.
+     *
+     * @param did          the DID.
+     * @param document     the DID document.
+     * @param etag         the {@code ETag} header of the response, may be null.
+     * @param cacheControl the {@code Cache-Control} header of the response, may be null.
+     */
+    public void put(String did, DidDocument document, @Nullable String etag, @Nullable String cacheControl) {
+        entries.put(did, new Entry(document, etag, expiration(cacheControl)));
+    }
+
+    /**
+     * Extend the time to live of an entry that has been revalidated by the server.
+     *
+     * @param did          the DID.
+     * @param entry        the revalidated entry.
+     * @param cacheControl the {@code Cache-Control} header of the {@code 304} response, may be null.
+     */
+    public void revalidated(String did, Entry entry, @Nullable String cacheControl) {
+        entries.put(did, new Entry(entry.document(), entry.etag(), expiration(cacheControl)));
+    }
+
+    /**
+     * Tell if the entry can be served without contacting the server.
+     *
+     * @param entry the entry.
+     * @return true if the entry has not expired yet.
+     */
+    public boolean isFresh(Entry entry) {
+        return entry.expiresAt().isAfter(clock.instant());
+    }
+
+    private Instant expiration(@Nullable String cacheControl) {
+        var ttl = maxAge(cacheControl);
+        if (ttl.compareTo(minTtl) < 0) {
+            ttl = minTtl;
+        }
+        if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+        return clock.instant().plus(ttl);
+    }
+
+    private Duration maxAge(@Nullable String cacheControl) {
+        if (cacheControl == null) {
+            return Duration.ZERO;
+        }
+        var maxAge = Duration.ZERO;
+        for (var directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            var value = directive.trim();
+            if (value.equals("no-cache") || value.equals("no-store")) {
+                return Duration.ZERO;
+            }
+            if (value.startsWith(MAX_AGE)) {
+                try {
+                    maxAge = Duration.ofSeconds(Long.parseLong(value.substring(MAX_AGE.length()).replace("\"", "")));
+                } catch (NumberFormatException ignored) {
+                    // an invalid max-age is ignored, the minimum ttl applies
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * A cached DID document.
+     *
+     * @param document  the DID document.
+     * @param etag      the entity tag of the document, null if the server did not send one.
+     * @param expiresAt the moment the document has to be revalidated.
+     */
+    public record Entry(DidDocument document, @Nullable String etag, Instant expiresAt) {
+    }
+}
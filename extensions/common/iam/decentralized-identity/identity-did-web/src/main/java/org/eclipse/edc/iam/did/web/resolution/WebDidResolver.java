@@ -22,13 +22,20 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
 /**
  * Resolves a Web DID according to the Web DID specification (https://w3c-ccg.github.io/did-method-web).
+ * <p>
+ * The resolved documents are kept in a {@link DidDocumentCache}, expired documents are revalidated with a conditional
+ * request. Concurrent resolutions of the same DID are collapsed into a single request.
  */
 public class WebDidResolver implements DidResolver {
     private static final String DID_METHOD = "web";
@@ -37,15 +44,18 @@ public class WebDidResolver implements DidResolver {
     private final ObjectMapper mapper;
     private final Monitor monitor;
     private final WebDidUrlResolver urlResolver;
+    private final DidDocumentCache cache;
+    private final Map<String, CompletableFuture<Result<DidDocument>>> resolutions = new ConcurrentHashMap<>();
 
     /**
      * Creates a resolver that executes standard DNS lookups.
      */
-    public WebDidResolver(EdcHttpClient httpClient, boolean useHttpsScheme, ObjectMapper mapper, Monitor monitor) {
+    public WebDidResolver(EdcHttpClient httpClient, boolean useHttpsScheme, ObjectMapper mapper, Monitor monitor, DidDocumentCache cache) {
         this.httpClient = httpClient;
         this.urlResolver = new WebDidUrlResolver(useHttpsScheme);
         this.mapper = mapper;
         this.monitor = monitor;
+        this.cache = cache;
     }
 
     @Override
@@ -64,8 +74,41 @@ public class WebDidResolver implements DidResolver {
             return Result.failure("Invalid DID key: " + e.getMessage());
         }
 
-        var request = new Request.Builder().url(url).get().build();
+        var cached = cache.get(didKey);
+        if (cached != null && cache.isFresh(cached)) {
+            return Result.success(cached.document());
+        }
+
+        var resolution = new CompletableFuture<Result<DidDocument>>();
+        var inFlight = resolutions.putIfAbsent(didKey, resolution);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+        try {
+            var result = fetch(didKey, url);
+            resolution.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            resolution.completeExceptionally(e);
+            throw e;
+        } finally {
+            resolutions.remove(didKey, resolution);
+        }
+    }
+
+    private Result<DidDocument> fetch(String didKey, String url) {
+        // the document could have been cached by a resolution that completed in the meantime
+        var cached = cache.get(didKey);
+        if (cached != null && cache.isFresh(cached)) {
+            return Result.success(cached.document());
+        }
+
+        var request = conditionalRequest(url, cached);
         try (var response = httpClient.execute(request)) {
+            if (response.code() == 304 && cached != null) {
+                cache.revalidated(didKey, cached, response.header("Cache-Control"));
+                return Result.success(cached.document());
+            }
             if (response.code() != 200) {
                 return Result.failure(format("Error resolving DID: %s. HTTP Code was: %s", didKey, response.code()));
             }
@@ -74,6 +117,7 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 DidDocument didDocument = mapper.readValue(body.string(), DidDocument.class);
+                cache.put(didKey, didDocument, response.header("ETag"), response.header("Cache-Control"));
                 return Result.success(didDocument);
             }
         } catch (IOException e) {
@@ -81,4 +125,12 @@ public class WebDidResolver implements DidResolver {
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    private Request conditionalRequest(String url, @Nullable DidDocumentCache.Entry cached) {
+        var builder = new Request.Builder().url(url).get();
+        if (cached != null && cached.etag() != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        return builder.build();
+    }
 }
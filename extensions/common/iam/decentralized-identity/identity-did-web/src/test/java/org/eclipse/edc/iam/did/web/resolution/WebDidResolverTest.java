@@ -25,14 +25,28 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class WebDidResolverTest {
 
+    private static final String DID = "did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA";
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+
     @Test
     void verifyResolveDocumentIsSuccessful() {
         var interceptor = new Interceptor() {
@@ -70,8 +84,130 @@ class WebDidResolverTest {
         assertThat(result.failed()).isTrue();
     }
 
+    @Test
+    void resolve_shouldServeCachedDocument_whenNotExpired() {
+        var requests = new AtomicInteger();
+        var resolver = createResolver(chain -> {
+            requests.incrementAndGet();
+            return didResponse(chain, "max-age=300", null);
+        });
+
+        var first = resolver.resolve(DID);
+        when(clock.instant()).thenReturn(now.plusSeconds(299));
+        var second = resolver.resolve(DID);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void resolve_shouldApplyMinimumTtl_whenNoCacheControl() {
+        var requests = new AtomicInteger();
+        var resolver = createResolver(chain -> {
+            requests.incrementAndGet();
+            return didResponse(chain, null, null);
+        });
+
+        resolver.resolve(DID);
+        when(clock.instant()).thenReturn(now.plusSeconds(59));
+        resolver.resolve(DID);
+        when(clock.instant()).thenReturn(now.plusSeconds(61));
+        resolver.resolve(DID);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldApplyMaximumTtl() {
+        var requests = new AtomicInteger();
+        var resolver = createResolver(chain -> {
+            requests.incrementAndGet();
+            return didResponse(chain, "public, max-age=86400", null);
+        });
+
+        resolver.resolve(DID);
+        when(clock.instant()).thenReturn(now.plusSeconds(3601));
+        resolver.resolve(DID);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldRevalidateExpiredDocument() {
+        var conditionalHeaders = new ArrayList<String>();
+        var resolver = createResolver(chain -> {
+            var etag = chain.request().header("If-None-Match");
+            conditionalHeaders.add(etag);
+            if (etag != null) {
+                return new Response.Builder().protocol(HTTP_1_1).request(chain.request()).code(304).message("not modified")
+                        .body(ResponseBody.create("", MediaType.get("application/json"))).build();
+            }
+            return didResponse(chain, "max-age=60", "\"v1\"");
+        });
+
+        var first = resolver.resolve(DID);
+        when(clock.instant()).thenReturn(now.plusSeconds(61));
+        var second = resolver.resolve(DID);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        assertThat(conditionalHeaders).containsExactly(null, "\"v1\"");
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailures() {
+        var requests = new AtomicInteger();
+        var resolver = createResolver(chain -> {
+            requests.incrementAndGet();
+            return new Response.Builder().body(ResponseBody.create("", MediaType.get("application/json")))
+                    .protocol(HTTP_1_1).request(chain.request()).code(404).message("notfound").build();
+        });
+
+        resolver.resolve(DID);
+        resolver.resolve(DID);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldCollapseConcurrentResolutions() {
+        var requests = new AtomicInteger();
+        var resolver = createResolver(chain -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return didResponse(chain, null, null);
+        });
+
+        List<CompletableFuture<?>> resolutions = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> assertThat(resolver.resolve(DID).succeeded()).isTrue()))
+                .toList();
+        CompletableFuture.allOf(resolutions.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(requests).hasValue(1);
+    }
+
+    private Response didResponse(Interceptor.Chain chain, String cacheControl, String etag) throws IOException {
+        var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+        assert didStream != null;
+        var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+        var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+        var builder = new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok");
+        if (cacheControl != null) {
+            builder.header("Cache-Control", cacheControl);
+        }
+        if (etag != null) {
+            builder.header("ETag", etag);
+        }
+        return builder.build();
+    }
+
     private WebDidResolver createResolver(Interceptor... interceptors) {
-        return new WebDidResolver(testHttpClient(interceptors), true, new ObjectMapper(), mock(Monitor.class));
+        when(clock.instant()).thenReturn(now);
+        var cache = new DidDocumentCache(clock, Duration.ofSeconds(60), Duration.ofSeconds(3600), 10);
+        return new WebDidResolver(testHttpClient(interceptors), true, new ObjectMapper(), mock(Monitor.class), cache);
     }
 
 }
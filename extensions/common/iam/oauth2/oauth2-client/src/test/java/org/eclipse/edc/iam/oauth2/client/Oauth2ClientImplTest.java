@@ -66,6 +66,18 @@ class Oauth2ClientImplTest {
 
         assertThat(result.succeeded()).isTrue();
         assertThat(result.getContent().getToken()).isEqualTo("token");
+        assertThat(result.getContent().getExpiresIn()).isNull();
+    }
+
+    @Test
+    void verifyRequestTokenSuccess_withExpiresIn() {
+        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token", "expires_in", 300));
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withBody(responseBody, APPLICATION_JSON));
+
+        var result = client.requestToken(createRequest());
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getExpiresIn()).isEqualTo(300);
     }
 
     @Test
@@ -25,6 +25,7 @@ dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:common:json-ld-spi"))
     api(project(":spi:common:transform-spi"))
+    implementation(project(":core:common:util"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.mockserver.netty)
@@ -16,8 +16,12 @@ package org.eclipse.edc.jsonld;
 
 public class JsonLdConfiguration {
 
+    public static final int DEFAULT_DOCUMENT_CACHE_CAPACITY = 100;
+
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
+    private long remoteDocumentCacheTtl = 0;
+    private int documentCacheCapacity = DEFAULT_DOCUMENT_CACHE_CAPACITY;
 
     private JsonLdConfiguration() {
 
@@ -31,6 +35,20 @@ public class JsonLdConfiguration {
         return httpsEnabled;
     }
 
+    /**
+     * Time-to-live in milliseconds of the remote (http/https) documents in the document cache, 0 disables caching.
+     */
+    public long getRemoteDocumentCacheTtl() {
+        return remoteDocumentCacheTtl;
+    }
+
+    /**
+     * Maximum number of documents kept in the document cache, the least recently used ones get evicted first.
+     */
+    public int getDocumentCacheCapacity() {
+        return documentCacheCapacity;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -49,6 +67,16 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder remoteDocumentCacheTtl(long remoteDocumentCacheTtl) {
+            configuration.remoteDocumentCacheTtl = remoteDocumentCacheTtl;
+            return this;
+        }
+
+        public Builder documentCacheCapacity(int documentCacheCapacity) {
+            configuration.documentCacheCapacity = documentCacheCapacity;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
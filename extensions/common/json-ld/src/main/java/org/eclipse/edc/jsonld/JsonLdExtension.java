@@ -66,6 +66,11 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String HTTP_ENABLE_SETTING = "edc.jsonld.http.enabled";
     @Setting(value = "If set enable https json-ld document resolution", type = "boolean", defaultValue = DEFAULT_HTTP_HTTPS_RESOLUTION + "")
     private static final String HTTPS_ENABLE_SETTING = "edc.jsonld.https.enabled";
+    private static final long DEFAULT_REMOTE_DOCUMENT_CACHE_TTL = 0;
+    @Setting(value = "Time-to-live in milliseconds of the cached remote (http/https) json-ld documents, 0 disables the caching", type = "long", defaultValue = DEFAULT_REMOTE_DOCUMENT_CACHE_TTL + "")
+    private static final String REMOTE_DOCUMENT_CACHE_TTL_SETTING = "edc.jsonld.cache.remote.ttl";
+    @Setting(value = "Maximum number of cached json-ld documents, the least recently used ones get evicted first", type = "int", defaultValue = JsonLdConfiguration.DEFAULT_DOCUMENT_CACHE_CAPACITY + "")
+    private static final String DOCUMENT_CACHE_CAPACITY_SETTING = "edc.jsonld.cache.capacity";
     @Inject
     private TypeManager typeManager;
 
@@ -85,6 +90,8 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
+                .remoteDocumentCacheTtl(config.getLong(REMOTE_DOCUMENT_CACHE_TTL_SETTING, DEFAULT_REMOTE_DOCUMENT_CACHE_TTL))
+                .documentCacheCapacity(config.getInteger(DOCUMENT_CACHE_CAPACITY_SETTING, JsonLdConfiguration.DEFAULT_DOCUMENT_CACHE_CAPACITY))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
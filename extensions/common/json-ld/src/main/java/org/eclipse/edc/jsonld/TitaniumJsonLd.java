@@ -28,14 +28,17 @@ import org.eclipse.edc.jsonld.document.JarLoader;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
 
 import java.net.URI;
-import java.util.HashMap;
+import java.time.Clock;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
@@ -46,16 +49,21 @@ import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
  */
 public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
-    private final Map<String, String> additionalNamespaces = new HashMap<>();
+    private final Map<String, String> additionalNamespaces = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private volatile JsonDocument compactionContext;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
     }
 
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
+        this(monitor, configuration, Clock.systemUTC());
+    }
+
+    public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration, Clock clock) {
         this.monitor = monitor;
-        this.documentLoader = new CachedDocumentLoader(configuration);
+        this.documentLoader = new CachedDocumentLoader(configuration, clock);
     }
 
     @Override
@@ -79,11 +87,7 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContextObject())
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument).get();
+            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, compactionContext()).get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
@@ -93,7 +97,10 @@ public class TitaniumJsonLd implements JsonLd {
 
     @Override
     public void registerNamespace(String prefix, String contextIri) {
-        additionalNamespaces.put(prefix, contextIri);
+        synchronized (additionalNamespaces) {
+            additionalNamespaces.put(prefix, contextIri);
+            compactionContext = null;
+        }
     }
 
     @Override
@@ -118,23 +125,54 @@ public class TitaniumJsonLd implements JsonLd {
         return jsonObjectBuilder.build();
     }
 
+    /**
+     * Returns the context used for compaction, it gets built once and rebuilt only after a namespace has been registered.
+     * It is built under the same lock as the registration, so a context built from stale namespaces is never kept.
+     */
+    private JsonDocument compactionContext() {
+        var context = compactionContext;
+        if (context != null) {
+            return context;
+        }
+        synchronized (additionalNamespaces) {
+            if (compactionContext == null) {
+                var jsonFactory = createBuilderFactory(Map.of());
+                compactionContext = JsonDocument.of(jsonFactory.createObjectBuilder()
+                        .add(CONTEXT, createContextObject())
+                        .build());
+            }
+            return compactionContext;
+        }
+    }
+
     private JsonObject createContextObject() {
         var builder = createObjectBuilder();
         additionalNamespaces.forEach(builder::add);
         return builder.build();
     }
 
+    /**
+     * Loads the documents, resolving the urls registered through {@link #registerCachedDocument(String, URI)} to their
+     * local copy. Parsed documents are kept in memory, keyed by the requested url: local (file and jar) documents
+     * indefinitely, remote (http and https) documents for the configured time-to-live, if any.
+     */
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> cache = new HashMap<>();
+        private final Map<String, URI> cache = new ConcurrentHashMap<>();
+        private final Map<URI, CachedDocument> documents;
         private final DocumentLoader loader;
+        private final long remoteDocumentCacheTtl;
+        private final Clock clock;
 
-        CachedDocumentLoader(JsonLdConfiguration configuration) {
+        CachedDocumentLoader(JsonLdConfiguration configuration, Clock clock) {
             loader = new SchemeRouter()
                     .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
                     .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
                     .set("file", new FileLoader())
                     .set("jar", new JarLoader());
+            remoteDocumentCacheTtl = configuration.getRemoteDocumentCacheTtl();
+            documents = synchronizedMap(new LruCache<>(configuration.getDocumentCacheCapacity()));
+            this.clock = clock;
         }
 
         @Override
@@ -143,13 +181,37 @@ public class TitaniumJsonLd implements JsonLd {
                     .map(cache::get)
                     .orElse(url);
 
-            return loader.loadDocument(uri, options);
+            var now = clock.millis();
+            var cached = documents.get(url);
+            if (cached != null) {
+                if (cached.isValid(now)) {
+                    return cached.document();
+                }
+                documents.remove(url, cached);
+            }
+
+            var document = loader.loadDocument(uri, options);
+            var ttl = isRemote(uri) ? remoteDocumentCacheTtl : Long.MAX_VALUE;
+            if (document != null && ttl > 0) {
+                documents.put(url, new CachedDocument(document, ttl == Long.MAX_VALUE ? Long.MAX_VALUE : now + ttl));
+            }
+            return document;
         }
 
         public void register(String contextUrl, URI uri) {
             cache.put(contextUrl, uri);
+            documents.remove(URI.create(contextUrl));
         }
 
+        private boolean isRemote(URI uri) {
+            return "http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme());
+        }
+
+        private record CachedDocument(Document document, long expiresAt) {
+            boolean isValid(long now) {
+                return now < expiresAt;
+            }
+        }
     }
 
 }
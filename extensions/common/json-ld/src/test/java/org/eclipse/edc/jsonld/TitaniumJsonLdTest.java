@@ -21,8 +21,10 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
 
 import java.net.URI;
+import java.time.Clock;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -35,6 +37,7 @@ import static org.eclipse.edc.junit.testfixtures.TestUtils.getFileFromResourceNa
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -199,6 +202,107 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldCacheRemoteDocument_whenTtlIsConfigured() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(60_000).build();
+        var service = new TitaniumJsonLd(monitor, configuration);
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldUseRegisteredDocument_whenRemoteDocumentWasCached() {
+        server.when(request()).respond(response("{\"@context\": {\"test\": \"http://remote.org/context/\"}}"));
+        var contextUrl = "http://localhost:" + port;
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(60_000).build();
+        var service = new TitaniumJsonLd(monitor, configuration);
+        assertThat(service.expand(jsonObject)).isSucceeded()
+                .satisfies(json -> assertThat(json.containsKey("http://remote.org/context/key")).isTrue());
+
+        service.registerCachedDocument(contextUrl, getFileFromResourceName("test-context.jsonld").toURI());
+
+        assertThat(service.expand(jsonObject)).isSucceeded()
+                .satisfies(json -> assertThat(json.containsKey("http://test.org/context/key")).isTrue());
+        server.verify(request(), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldReloadRemoteDocument_whenCachedDocumentHasExpired() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 30_000L, 60_000L);
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(60_000).build();
+        var service = new TitaniumJsonLd(monitor, configuration, clock);
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void documentResolution_shouldEvictLeastRecentlyUsedDocument_whenCacheIsFull() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var first = createObjectBuilder().add(CONTEXT, "http://localhost:" + port + "/first").add("test:key", "value").build();
+        var second = createObjectBuilder().add(CONTEXT, "http://localhost:" + port + "/second").add("test:key", "value").build();
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(60_000).documentCacheCapacity(1).build();
+        var service = new TitaniumJsonLd(monitor, configuration);
+
+        assertThat(service.expand(first)).isSucceeded();
+        assertThat(service.expand(second)).isSucceeded();
+        assertThat(service.expand(first)).isSucceeded();
+
+        server.verify(request().withPath("/first"), VerificationTimes.exactly(2));
+        server.verify(request().withPath("/second"), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldNotCacheRemoteDocument_byDefault() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = httpEnabledService();
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void compact_shouldUseNamespaceRegisteredAfterFirstCompaction() {
+        var ns = "https://test.org/schema/";
+        var expanded = createObjectBuilder()
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value")))
+                .build();
+        var service = defaultService();
+        assertThat(service.compact(expanded)).isSucceeded();
+
+        service.registerNamespace("prefix", ns);
+        var compacted = service.compact(expanded);
+
+        assertThat(compacted).isSucceeded().satisfies(json -> assertThat(json.getString("prefix:key")).isEqualTo("value"));
+    }
+
     private JsonLd httpEnabledService() {
         return new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).build());
     }
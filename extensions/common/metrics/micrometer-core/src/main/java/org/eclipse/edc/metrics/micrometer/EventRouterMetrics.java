@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.SubscriberQueueStats;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Binds the state of the queues of the asynchronous event subscribers to a {@link MeterRegistry}, tagged by subscriber.
+ * Only the subscribers that are registered at binding time are measured.
+ */
+public class EventRouterMetrics implements MeterBinder {
+
+    static final String QUEUE_DEPTH = "edc.events.subscriber.queue.depth";
+    static final String DROPPED = "edc.events.subscriber.dropped";
+    static final String LAG = "edc.events.subscriber.lag";
+    private static final String SUBSCRIBER_TAG = "subscriber";
+
+    private final EventRouter eventRouter;
+
+    public EventRouterMetrics(EventRouter eventRouter) {
+        this.eventRouter = eventRouter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var stats : eventRouter.queueStats()) {
+            var subscriber = stats.subscriber();
+
+            Gauge.builder(QUEUE_DEPTH, eventRouter, statOf(subscriber, SubscriberQueueStats::depth))
+                    .description("Number of events waiting to be delivered to the subscriber")
+                    .tag(SUBSCRIBER_TAG, subscriber)
+                    .register(registry);
+
+            FunctionCounter.builder(DROPPED, eventRouter, statOf(subscriber, SubscriberQueueStats::dropped))
+                    .description("Number of events not delivered to the subscriber because its queue was full")
+                    .tag(SUBSCRIBER_TAG, subscriber)
+                    .register(registry);
+
+            Gauge.builder(LAG, eventRouter, statOf(subscriber, SubscriberQueueStats::lagMillis))
+                    .description("Time the last delivered event waited in the queue of the subscriber")
+                    .baseUnit("milliseconds")
+                    .tag(SUBSCRIBER_TAG, subscriber)
+                    .register(registry);
+        }
+    }
+
+    private ToDoubleFunction<EventRouter> statOf(String subscriber, ToDoubleFunction<SubscriberQueueStats> stat) {
+        return router -> router.queueStats().stream()
+                .filter(stats -> stats.subscriber().equals(subscriber))
+                .findFirst()
+                .map(stat::applyAsDouble)
+                .orElse(Double.NaN);
+    }
+}
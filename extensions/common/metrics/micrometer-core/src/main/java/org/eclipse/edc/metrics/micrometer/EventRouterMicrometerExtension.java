@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that publishes the queue depth, dropped events and lag of every asynchronous event subscriber with
+ * Micrometer.
+ */
+@Extension(value = EventRouterMicrometerExtension.NAME)
+public class EventRouterMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_EVENTS_METRICS = "edc.metrics.events.enabled";
+    public static final String NAME = "Event Router Micrometer Metrics";
+
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private boolean enabled;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        enabled = context.getSetting(ENABLE_METRICS, true) && context.getSetting(ENABLE_EVENTS_METRICS, true);
+    }
+
+    @Override
+    public void prepare() {
+        // subscribers are registered during initialization, so they are all known here
+        if (enabled) {
+            new EventRouterMetrics(eventRouter).bindTo(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.SubscriberQueueStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventRouterMetricsTest {
+
+    private final EventRouter eventRouter = mock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void bindTo_shouldPublishTheStatsOfEverySubscriber() {
+        when(eventRouter.queueStats()).thenReturn(List.of(
+                new SubscriberQueueStats("first", 3, 1, 20),
+                new SubscriberQueueStats("second", 0, 0, 0)));
+
+        new EventRouterMetrics(eventRouter).bindTo(registry);
+
+        assertThat(registry.get(EventRouterMetrics.QUEUE_DEPTH).tag("subscriber", "first").gauge().value()).isEqualTo(3);
+        assertThat(registry.get(EventRouterMetrics.DROPPED).tag("subscriber", "first").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(EventRouterMetrics.LAG).tag("subscriber", "first").gauge().value()).isEqualTo(20);
+        assertThat(registry.get(EventRouterMetrics.QUEUE_DEPTH).tag("subscriber", "second").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    void bindTo_shouldReadTheCurrentStats() {
+        when(eventRouter.queueStats())
+                .thenReturn(List.of(new SubscriberQueueStats("subscriber", 0, 0, 0)))
+                .thenReturn(List.of(new SubscriberQueueStats("subscriber", 5, 2, 100)));
+
+        new EventRouterMetrics(eventRouter).bindTo(registry);
+
+        assertThat(registry.get(EventRouterMetrics.QUEUE_DEPTH).gauge().value()).isEqualTo(5);
+    }
+}
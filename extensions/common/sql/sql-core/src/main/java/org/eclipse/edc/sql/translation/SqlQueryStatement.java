@@ -76,14 +76,23 @@ public class SqlQueryStatement {
      * @return the query as SQL statement
      */
     public String getQueryAsString() {
+        return getQueryAsSubSelect() + ";";
+    }
+
+    /**
+     * Represents this query as SQL string without the terminating semicolon, so that it can be nested into another
+     * statement, e.g. {@code SELECT * FROM (<sub-select>) AS t}
+     *
+     * @return the query as SQL sub-select
+     */
+    public String getQueryAsSubSelect() {
         var whereClause = whereClauses.isEmpty() ? "" : whereClauses.stream().collect(joining(" AND ", "WHERE ", " "));
 
         return selectStatement + " " +
                 whereClause +
                 orderByClause +
                 LIMIT +
-                OFFSET +
-                ";";
+                OFFSET;
     }
 
     /**
@@ -92,6 +92,14 @@ class SqlQueryStatementTest {
         assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
     }
 
+    @Test
+    void asSubSelect_shouldNotBeTerminated() {
+        var builder = queryBuilder().sortField("description");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping());
+
+        assertThat(t.getQueryAsSubSelect()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC LIMIT ? OFFSET ?");
+    }
+
     @Test
     void singleExpression_orderBy_WithNonExistentProperty() {
         var builder = queryBuilder().sortField("notexist");
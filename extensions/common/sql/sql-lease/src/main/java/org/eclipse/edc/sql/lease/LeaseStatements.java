@@ -16,6 +16,8 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -30,6 +32,87 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Name of the table that contains the leased entities.
+     */
+    String getLeasedEntityTableName();
+
+    /**
+     * Name of the id column of the table that contains the leased entities.
+     */
+    String getLeasedEntityIdColumn();
+
+    /**
+     * Deletes the expired leases of a batch of entities. Parameters: the current timestamp, then the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE ? > (%s + %s) AND %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Creates a lease for every entity of a batch that is not leased, the lease id is the concatenation of a prefix and
+     * the entity id. Parameters: the lease id prefix, leased by, leased at, lease duration, then the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) SELECT ? || %s, ?, ?, ? FROM %s WHERE %s IS NULL AND %s IN (%s)",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getLeasedEntityIdColumn(), getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Assigns the leases created by {@link #getInsertLeasesTemplate(int)} to the entities of a batch.
+     * Parameters: the lease id prefix, then the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = ? || %s WHERE %s IS NULL AND %s IN (%s)",
+                getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Counts the leases of a batch of entities that are held by another holder. Parameters: the lease holder, then the
+     * entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getCountLeasesHeldByOthersTemplate(int count) {
+        return format("SELECT COUNT(*) FROM %s WHERE %s <> ? AND %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeasedByColumn(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Deletes the leases of a batch of entities, the foreign key sets the lease id of the entities to null.
+     * Parameters: the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getDeleteLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Renews the leases held by a holder on a batch of entities. Parameters: the current timestamp, the lease holder,
+     * then the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getRenewLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeasedAtColumn(), getLeasedByColumn(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +139,7 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
 }
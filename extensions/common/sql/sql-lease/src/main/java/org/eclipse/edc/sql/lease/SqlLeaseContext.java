@@ -26,13 +26,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
  * Breaking a lease is implemented by deleting the respective entry
+ * Acquiring the leases of a batch of entities takes a fixed number of statements, regardless of the batch size.
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
@@ -71,6 +74,24 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public void breakLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        trxContext.execute(() -> {
+            var ids = entityIds.stream().distinct().toArray();
+            var count = ids.length;
+
+            var heldByOthers = queryExecutor.single(connection, false, r -> r.getLong(1), statements.getCountLeasesHeldByOthersTemplate(count), concat(leaseHolder, ids));
+            if (heldByOthers != null && heldByOthers > 0) {
+                throw new IllegalStateException("Current runtime does not hold the lease for " + heldByOthers + " of the objects, cannot break leases!");
+            }
+
+            queryExecutor.execute(connection, statements.getDeleteLeasesTemplate(count), ids);
+        });
+    }
+
     @Override
     public void acquireLease(String entityId) {
         trxContext.execute(() -> {
@@ -101,6 +122,32 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public void acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var ids = entityIds.stream().distinct().toArray();
+            var count = ids.length;
+
+            //clean out expired leases, the foreign key sets the lease id of the entities to null
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), concat(now, ids));
+
+            // create new leases in DB, the lease ids are derived from the entity ids
+            var prefix = UUID.randomUUID() + "-";
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), concat(prefix, leaseHolder, now, duration, ids));
+
+            //update entities with leases -> effectively lease entities
+            var leased = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), concat(prefix, ids));
+            if (leased != count) {
+                throw new IllegalStateException("Some entities are currently leased or do not exist, leased " + leased + " out of " + count);
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -119,4 +166,10 @@ public class SqlLeaseContext implements LeaseContext {
         lease.setLeaseId(resultSet.getString(statements.getLeaseIdColumn()));
         return lease;
     }
+
+    private Object[] concat(Object... arguments) {
+        return Stream.of(arguments)
+                .flatMap(it -> it instanceof Object[] array ? Stream.of(array) : Stream.of(it))
+                .toArray();
+    }
 }
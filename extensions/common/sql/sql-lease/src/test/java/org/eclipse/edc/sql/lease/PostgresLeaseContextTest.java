@@ -38,6 +38,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.ZoneOffset.UTC;
@@ -108,6 +109,32 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.breakLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void breakLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        leaseContext.acquireLeases(List.of("id1", "id2", "id3"));
+
+        leaseContext.breakLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(isLeased("id2", connection)).isFalse();
+        assertThat(isLeased("id3", connection)).isTrue();
+    }
+
+    @Test
+    void breakLeases_whenLeaseByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        leaseContext.acquireLease("id1");
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.breakLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+    }
+
     @Test
     void acquireLease(Connection connection) {
         var id = "test-id";
@@ -145,6 +172,60 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+
+        leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(isLeased("id3", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_emptyList_shouldDoNothing(Connection connection) {
+        insertTestEntity("id1", connection);
+
+        leaseContext.acquireLeases(List.of());
+
+        assertThat(isLeased("id1", connection)).isFalse();
+    }
+
+    @Test
+    void acquireLeases_leasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.acquireLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+        assertThat(leaseContext.getLease("id2")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldAcquireNewLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .by(LEASE_HOLDER).withConnection(connection);
+        twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        var newLease = twoMinutesAheadContext.getLease("id1");
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(oldLeaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
@@ -249,6 +330,16 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getLeasedEntityTableName() {
+            return getEntityTableName();
+        }
+
+        @Override
+        public String getLeasedEntityIdColumn() {
+            return "id";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
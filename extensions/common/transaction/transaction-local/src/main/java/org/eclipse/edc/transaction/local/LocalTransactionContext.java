@@ -83,6 +83,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             if (startedTransaction) {
                 // notify syncs before resources are called
                 transaction.getSynchronizations().forEach(TransactionSynchronization::beforeCompletion);
+                var committed = !transaction.isRollbackOnly();
                 if (transaction.isRollbackOnly()) {
                     resources.forEach(localTransactionResource -> {
                         try {
@@ -92,15 +93,25 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         }
                     });
                 } else {
-                    resources.forEach(localTransactionResource -> {
+                    for (var localTransactionResource : resources) {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
                             monitor.severe("Error committing resource", e);
+                            committed = false;
                         }
-                    });
+                    }
                 }
                 transactions.remove();
+                if (committed) {
+                    transaction.getSynchronizations().forEach(sync -> {
+                        try {
+                            sync.afterCommit();
+                        } catch (Exception e) {
+                            monitor.severe("Error notifying transaction synchronization", e);
+                        }
+                    });
+                }
             }
         }
     }
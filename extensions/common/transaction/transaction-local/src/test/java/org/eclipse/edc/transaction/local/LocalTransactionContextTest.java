@@ -24,7 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -154,6 +156,31 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifySynchronization_afterCommitInvokedAfterCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        var inOrder = inOrder(sync, dsResource);
+        inOrder.verify(sync).beforeCompletion();
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(sync).afterCommit();
+    }
+
+    @Test
+    void verifySynchronization_afterCommitNotInvokedOnRollback() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(sync);
+            throw new RuntimeException("rollback");
+        }));
+
+        verify(dsResource).rollback();
+        verify(sync, never()).afterCommit();
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
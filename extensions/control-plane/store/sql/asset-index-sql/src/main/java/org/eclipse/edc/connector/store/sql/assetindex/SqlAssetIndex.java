@@ -36,9 +36,15 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.partitioningBy;
@@ -60,10 +66,10 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
         return transactionContext.execute(() -> {
             try {
-                var statement = assetStatements.createQuery(querySpec);
+                var statement = assetStatements.createSortedQuery(querySpec);
+                var query = assetStatements.getSelectAssetsWithPropertiesTemplate(statement.getQueryAsSubSelect());
 
-                return queryExecutor.query(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                return groupByAsset(queryExecutor.query(getConnection(), true, this::mapAssetRow, query, statement.getParameters()));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -74,41 +80,14 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
 
-        try (var connection = getConnection()) {
-
-            return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
-                    return null;
-                }
-
-                var selectAssetByIdSql = assetStatements.getSelectAssetByIdTemplate();
-                var findPropertyByIdSql = assetStatements.getFindPropertyByIdTemplate();
-                try (
-                        var createdAtStream = queryExecutor.query(connection, false, this::mapCreatedAt, selectAssetByIdSql, assetId);
-                        var allPropertiesStream = queryExecutor.query(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
-                ) {
-                    var createdAt = createdAtStream.findFirst().orElse(0L);
-                    var groupedProperties = allPropertiesStream.collect(partitioningBy(SqlPropertyWrapper::isPrivate));
-                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var dataAddress = resolveForAsset(assetId);
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .privateProperties(assetPrivateProperties)
-                            .createdAt(createdAt)
-                            .dataAddress(dataAddress)
-                            .build();
-                }
-            });
-
-        } catch (Exception e) {
-            if (e instanceof EdcPersistenceException) {
-                throw (EdcPersistenceException) e;
-            } else {
-                throw new EdcPersistenceException(e.getMessage(), e);
+        return transactionContext.execute(() -> {
+            var query = assetStatements.getSelectAssetsWithPropertiesTemplate(assetStatements.getSelectAssetByIdTemplate());
+            try (var assets = groupByAsset(queryExecutor.query(getConnection(), true, this::mapAssetRow, query, assetId))) {
+                return assets.findFirst().orElse(null);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
             }
-        }
+        });
     }
 
     @Override
@@ -225,10 +204,6 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
-    private long mapCreatedAt(ResultSet resultSet) throws SQLException {
-        return resultSet.getLong(assetStatements.getCreatedAtColumn());
-    }
-
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
@@ -267,8 +242,38 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        var property = resultSet.getString(assetStatements.getAssetPropertyNameColumn()) != null ? mapPropertyResultSet(resultSet) : null;
+        return new AssetRow(resultSet.getString(assetStatements.getAssetIdColumn()),
+                resultSet.getLong(assetStatements.getCreatedAtColumn()),
+                property,
+                resultSet.getString(assetStatements.getDataAddressPropertiesColumn()));
+    }
+
+    /**
+     * Groups the contiguous rows of every asset into an {@link Asset}, while they are streamed from the database.
+     */
+    private Stream<Asset> groupByAsset(Stream<AssetRow> rows) {
+        var iterator = new AssetIterator(rows.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(rows::close);
+    }
+
+    private Asset toAsset(AssetRow row, List<SqlPropertyWrapper> properties) {
+        var groupedProperties = properties.stream().collect(partitioningBy(SqlPropertyWrapper::isPrivate));
+        var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+        var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+        var dataAddress = row.dataAddressProperties() == null ? null : DataAddress.Builder.newInstance()
+                .properties(fromJson(row.dataAddressProperties(), new TypeReference<Map<String, Object>>() {
+                }))
+                .build();
+        return Asset.Builder.newInstance()
+                .id(row.assetId())
+                .properties(assetProperties)
+                .privateProperties(assetPrivateProperties)
+                .createdAt(row.createdAt())
+                .dataAddress(dataAddress)
+                .build();
     }
 
     private void insertProperties(Asset asset, String assetId, Connection connection) {
@@ -292,6 +297,46 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         }
     }
 
+    private record AssetRow(String assetId, long createdAt, @Nullable SqlPropertyWrapper property, @Nullable String dataAddressProperties) {
+    }
+
+    private class AssetIterator implements Iterator<Asset> {
+        private final Iterator<AssetRow> rows;
+        private AssetRow nextAssetRow;
+
+        AssetIterator(Iterator<AssetRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextAssetRow != null || rows.hasNext();
+        }
+
+        @Override
+        public Asset next() {
+            var first = nextAssetRow != null ? nextAssetRow : rows.next();
+            nextAssetRow = null;
+
+            var properties = new ArrayList<SqlPropertyWrapper>();
+            var row = first;
+            while (true) {
+                if (row.property() != null) {
+                    properties.add(row.property());
+                }
+                if (!rows.hasNext()) {
+                    break;
+                }
+                row = rows.next();
+                if (!row.assetId().equals(first.assetId())) {
+                    nextAssetRow = row;
+                    break;
+                }
+            }
+            return toAsset(first, properties);
+        }
+    }
+
     private static class SqlPropertyWrapper {
         private final boolean isPrivate;
         private final AbstractMap.SimpleImmutableEntry<String, Object> property;
@@ -104,6 +104,14 @@ public interface AssetStatements extends SqlStatements {
         return "created_at";
     }
 
+    /**
+     * The column holding the position of an asset in the sorted results of a query, see
+     * {@link #createSortedQuery(QuerySpec)}.
+     */
+    default String getRowNumberColumn() {
+        return "edc_row_number";
+    }
+
     /**
      * INSERT clause for assets.
      */
@@ -180,9 +188,27 @@ public interface AssetStatements extends SqlStatements {
     SqlQueryStatement createQuery(List<Criterion> query);
 
     /**
-     * Select single asset by ID
+     * Generates a SQL query that selects the assets matching the query spec, sorted and paged as requested. The position
+     * of every asset in the results is selected as {@link #getRowNumberColumn()}.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createSortedQuery(QuerySpec query);
+
+    /**
+     * Select single asset by ID, including the {@link #getRowNumberColumn()}.
      */
     String getSelectAssetByIdTemplate();
 
+    /**
+     * SELECT statement that loads the assets selected by a query together with their properties and data address in a
+     * single round-trip. There is one row for every property, the rows of an asset are contiguous and the assets keep
+     * the order of their {@link #getRowNumberColumn()}.
+     *
+     * @param assetsQuery the sub-select that selects the assets, e.g. {@link #getSelectAssetByIdTemplate()} or
+     *                    {@link SqlQueryStatement#getQueryAsSubSelect()} of {@link #createSortedQuery(QuerySpec)}
+     */
+    String getSelectAssetsWithPropertiesTemplate(String assetsQuery);
+
 
 }
@@ -18,6 +18,7 @@ package org.eclipse.edc.connector.store.sql.assetindex.schema;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.sql.translation.SqlConditionExpression;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
@@ -119,14 +120,7 @@ public class BaseSqlDialectStatements implements AssetStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        var criteria = querySpec.getFilterExpression();
-        var conditions = criteria.stream().map(SqlConditionExpression::new).toList();
-        var results = conditions.stream().map(SqlConditionExpression::isValidExpression).toList();
-
-        if (results.stream().anyMatch(Result::failed)) {
-            var message = results.stream().flatMap(r -> r.getFailureMessages().stream()).collect(Collectors.joining(", "));
-            throw new IllegalArgumentException(message);
-        }
+        var conditions = toConditions(querySpec);
         var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
 
         var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects);
@@ -151,9 +145,72 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .build());
     }
 
+    @Override
+    public SqlQueryStatement createSortedQuery(QuerySpec querySpec) {
+        var conditions = toConditions(querySpec);
+        var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
+
+        var query = format("SELECT a.*, ROW_NUMBER() OVER (%s) AS %s FROM %s AS a%s ORDER BY %s",
+                toOrderBy(querySpec), getRowNumberColumn(), getAssetTable(), concatSubSelects(subSelects), getRowNumberColumn());
+        var stmt = new SqlQueryStatement(query);
+
+        if (querySpec.getSortField() != null) {
+            stmt.addParameter(querySpec.getSortField());
+        }
+        conditions.stream()
+                .flatMap(SqlConditionExpression::toStatementParameter)
+                .forEach(stmt::addParameter);
+
+        stmt.addParameter(querySpec.getLimit());
+        stmt.addParameter(querySpec.getOffset());
+
+        return stmt;
+    }
+
     @Override
     public String getSelectAssetByIdTemplate() {
-        return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
+        return format("SELECT a.*, 1 AS %s FROM %s AS a WHERE a.%s=?", getRowNumberColumn(), getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getSelectAssetsWithPropertiesTemplate(String assetsQuery) {
+        return format("SELECT a.%s, a.%s, p.%s, p.%s, p.%s, p.%s, d.%s FROM (%s) AS a" +
+                        " LEFT OUTER JOIN %s AS p ON p.%s = a.%s" +
+                        " LEFT OUTER JOIN %s AS d ON d.%s = a.%s" +
+                        " ORDER BY a.%s",
+                getAssetIdColumn(), getCreatedAtColumn(), getAssetPropertyNameColumn(), getAssetPropertyValueColumn(),
+                getAssetPropertyTypeColumn(), getAssetPropertyIsPrivateColumn(), getDataAddressPropertiesColumn(),
+                assetsQuery,
+                getAssetPropertyTable(), getPropertyAssetIdFkColumn(), getAssetIdColumn(),
+                getDataAddressTable(), getDataAddressAssetIdFkColumn(), getAssetIdColumn(),
+                getRowNumberColumn());
+    }
+
+    private List<SqlConditionExpression> toConditions(QuerySpec querySpec) {
+        var conditions = querySpec.getFilterExpression().stream().map(SqlConditionExpression::new).toList();
+        var results = conditions.stream().map(SqlConditionExpression::isValidExpression).toList();
+
+        if (results.stream().anyMatch(Result::failed)) {
+            var message = results.stream().flatMap(r -> r.getFailureMessages().stream()).collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(message);
+        }
+        return conditions;
+    }
+
+    /**
+     * Orders by the value of the (public or private) sort property, the property name is a statement parameter.
+     */
+    private String toOrderBy(QuerySpec querySpec) {
+        if (querySpec.getSortField() == null) {
+            return "";
+        }
+        return format("ORDER BY (SELECT %s FROM %s WHERE %s = a.%s AND %s = ?) %s",
+                getAssetPropertyValueColumn(),
+                getAssetPropertyTable(),
+                getPropertyAssetIdFkColumn(),
+                getAssetIdColumn(),
+                getAssetPropertyNameColumn(),
+                querySpec.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC");
     }
 
     /**
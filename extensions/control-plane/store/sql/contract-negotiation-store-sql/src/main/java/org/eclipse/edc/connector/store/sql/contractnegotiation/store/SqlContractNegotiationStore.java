@@ -39,12 +39,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isTransition;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
@@ -54,6 +58,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<Consumer<ContractNegotiation>> saveListeners = new CopyOnWriteArrayList<>();
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -110,11 +115,44 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     leaseContext.withConnection(connection).breakLease(id);
                     update(connection, id, negotiation);
                 }
+                if (!saveListeners.isEmpty() && isTransition(existing, negotiation)) {
+                    saveListeners.forEach(listener -> listener.accept(negotiation));
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+
+    }
+
+    @Override
+    public void breakLease(ContractNegotiation negotiation) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).breakLease(negotiation.getId());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
+    }
 
+    @Override
+    public void breakLeases(Collection<ContractNegotiation> negotiations) {
+        if (negotiations.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).breakLeases(negotiations.stream().map(ContractNegotiation::getId).distinct().toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void registerSaveListener(Consumer<ContractNegotiation> listener) {
+        saveListeners.add(listener);
     }
 
     @Override
@@ -183,7 +221,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
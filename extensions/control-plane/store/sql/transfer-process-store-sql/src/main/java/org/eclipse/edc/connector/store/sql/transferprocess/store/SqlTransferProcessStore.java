@@ -40,13 +40,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isTransition;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
@@ -57,6 +61,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<Consumer<TransferProcess>> saveListeners = new CopyOnWriteArrayList<>();
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -83,7 +88,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -145,16 +150,49 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 var existing = findByIdInternal(conn, entity.getId());
                 if (existing != null) {
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
-                    update(conn, entity, existing.getDataRequest().getId());
+                    update(conn, entity, existing.getDataRequest());
                 } else {
                     insert(conn, entity);
                 }
+                if (!saveListeners.isEmpty() && isTransition(existing, entity)) {
+                    saveListeners.forEach(listener -> listener.accept(entity));
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void breakLease(TransferProcess entity) {
+        transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void breakLeases(Collection<TransferProcess> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                leaseContext.by(leaseHolderName).withConnection(conn).breakLeases(entities.stream().map(TransferProcess::getId).distinct().toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerSaveListener(Consumer<TransferProcess> listener) {
+        saveListeners.add(listener);
+    }
+
     @Override
     public @Nullable TransferProcess findById(String id) {
         return transactionContext.execute(() -> {
@@ -240,9 +278,33 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
-    private void update(Connection conn, TransferProcess process, String existingDataRequestId) {
+    private void update(Connection conn, TransferProcess process, DataRequest existingDataRequest) {
         var updateStmt = statements.getUpdateTransferProcessTemplate();
-        queryExecutor.execute(conn, updateStmt,
+        queryExecutor.execute(conn, updateStmt, updateArguments(process));
+
+        var newDr = process.getDataRequest();
+        if (isChanged(existingDataRequest, newDr)) {
+            updateDataRequest(conn, newDr, existingDataRequest.getId());
+        }
+    }
+
+    /**
+     * The data request usually doesn't change over the transfer process lifecycle, in that case its row is not
+     * written again.
+     */
+    private boolean isChanged(DataRequest existing, DataRequest dataRequest) {
+        return !Objects.equals(existing.getId(), dataRequest.getId()) ||
+                !Objects.equals(existing.getProcessId(), dataRequest.getProcessId()) ||
+                !Objects.equals(existing.getConnectorAddress(), dataRequest.getConnectorAddress()) ||
+                !Objects.equals(existing.getProtocol(), dataRequest.getProtocol()) ||
+                !Objects.equals(existing.getConnectorId(), dataRequest.getConnectorId()) ||
+                !Objects.equals(existing.getAssetId(), dataRequest.getAssetId()) ||
+                !Objects.equals(existing.getContractId(), dataRequest.getContractId()) ||
+                !Objects.equals(toJson(existing.getDataDestination()), toJson(dataRequest.getDataDestination()));
+    }
+
+    private Object[] updateArguments(TransferProcess process) {
+        return new Object[]{
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -255,16 +317,18 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getDeprovisionedResources()),
                 toJson(process.getCallbackAddresses()),
                 process.isPending(),
-                process.getId());
-
-        var newDr = process.getDataRequest();
-        updateDataRequest(conn, newDr, existingDataRequestId);
+                process.getId()
+        };
     }
 
     private void updateDataRequest(Connection conn, DataRequest dataRequest, String existingDataRequestId) {
         var updateDrStmt = statements.getUpdateDataRequestTemplate();
 
-        queryExecutor.execute(conn, updateDrStmt,
+        queryExecutor.execute(conn, updateDrStmt, updateDataRequestArguments(dataRequest, existingDataRequestId));
+    }
+
+    private Object[] updateDataRequestArguments(DataRequest dataRequest, String existingDataRequestId) {
+        return new Object[]{
                 dataRequest.getId(),
                 dataRequest.getProcessId(),
                 dataRequest.getConnectorAddress(),
@@ -273,7 +337,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 dataRequest.getAssetId(),
                 dataRequest.getContractId(),
                 toJson(dataRequest.getDataDestination()),
-                existingDataRequestId);
+                existingDataRequestId
+        };
     }
 
     /**
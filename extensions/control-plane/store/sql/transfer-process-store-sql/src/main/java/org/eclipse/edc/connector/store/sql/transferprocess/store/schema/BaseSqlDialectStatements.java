@@ -53,6 +53,16 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     @Override
     public String getInsertStatement() {
         return executeStatement()
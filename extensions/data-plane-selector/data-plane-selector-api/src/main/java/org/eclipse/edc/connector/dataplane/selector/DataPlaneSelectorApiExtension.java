@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectFromDataPlaneInstanceTransformer;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToDataPlaneInstanceTransformer;
+import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToDataPlaneLoadTransformer;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToSelectionRequestTransformer;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -60,6 +61,7 @@ public class DataPlaneSelectorApiExtension implements ServiceExtension {
 
         transformerRegistry.register(new JsonObjectToSelectionRequestTransformer());
         transformerRegistry.register(new JsonObjectToDataPlaneInstanceTransformer());
+        transformerRegistry.register(new JsonObjectToDataPlaneLoadTransformer());
         transformerRegistry.register(new JsonObjectFromDataPlaneInstanceTransformer(createBuilderFactory(Map.of()), typeManager.getMapper(JSON_LD)));
         var controller = new DataplaneSelectorApiController(selectionService, transformerRegistry);
 
@@ -27,7 +27,9 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.schemas.DataPlaneInstanceSchema;
+import org.eclipse.edc.connector.dataplane.selector.api.v2.schemas.DataPlaneLoadSchema;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.schemas.SelectionRequestSchema;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
@@ -70,5 +72,18 @@ public interface DataplaneSelectorApi {
     @GET
     JsonArray getAll();
 
+    @Operation(method = "POST",
+            description = "Reports the current load of a data plane instance, used by the load-aware selection strategies",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataPlaneLoadSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "The load was recorded"),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))),
+                    @ApiResponse(responseCode = "404", description = "No data plane instance with the given id is registered", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            }
+    )
+    @POST
+    @Path("{id}/load")
+    void reportLoad(@PathParam("id") String id, JsonObject load);
+
 
 }
@@ -20,11 +20,13 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.model.SelectionRequest;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -88,6 +90,17 @@ public class DataplaneSelectorApiController implements DataplaneSelectorApi {
                 .collect(toJsonArray());
     }
 
+    @Override
+    @POST
+    @Path("{id}/load")
+    public void reportLoad(@PathParam("id") String id, JsonObject jsonObject) {
+        var load = transformerRegistry.transform(jsonObject, DataPlaneLoad.class)
+                .orElseThrow(InvalidRequestException::new);
+
+        selectionService.reportLoad(id, load)
+                .orElseThrow(exceptionMapper(DataPlaneInstance.class, id));
+    }
+
     private DataPlaneInstance catchException(Supplier<DataPlaneInstance> supplier) {
         try {
             return supplier.get();
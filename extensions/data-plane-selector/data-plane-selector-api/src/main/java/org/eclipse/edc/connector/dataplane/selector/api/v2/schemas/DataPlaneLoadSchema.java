@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.api.v2.schemas;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad.DATAPLANE_LOAD_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+
+@Schema(example = DataPlaneLoadSchema.DATAPLANE_LOAD_INPUT_EXAMPLE)
+public record DataPlaneLoadSchema(
+        @Schema(name = TYPE, example = DATAPLANE_LOAD_TYPE)
+        String type,
+        long activeFlows,
+        long queueDepth
+) {
+    public static final String DATAPLANE_LOAD_INPUT_EXAMPLE = """
+            {
+                "@context": {
+                    "edc": "https://w3id.org/edc/v0.0.1/ns/"
+                },
+                "@type": "DataPlaneLoad",
+                "activeFlows": 12,
+                "queueDepth": 3
+            }
+            """;
+}
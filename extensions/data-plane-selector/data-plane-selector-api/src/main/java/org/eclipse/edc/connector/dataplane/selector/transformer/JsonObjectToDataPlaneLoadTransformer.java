@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.transformer;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
+import org.eclipse.edc.jsonld.spi.transformer.AbstractJsonLdTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad.ACTIVE_FLOWS;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad.QUEUE_DEPTH;
+
+public class JsonObjectToDataPlaneLoadTransformer extends AbstractJsonLdTransformer<JsonObject, DataPlaneLoad> {
+
+    public JsonObjectToDataPlaneLoadTransformer() {
+        super(JsonObject.class, DataPlaneLoad.class);
+    }
+
+    @Override
+    public @Nullable DataPlaneLoad transform(@NotNull JsonObject jsonObject, @NotNull TransformerContext context) {
+        var activeFlows = jsonObject.get(ACTIVE_FLOWS);
+        var queueDepth = jsonObject.get(QUEUE_DEPTH);
+        return new DataPlaneLoad(
+                activeFlows == null ? 0 : transformInt(activeFlows, context),
+                queueDepth == null ? 0 : transformInt(queueDepth, context));
+    }
+
+}
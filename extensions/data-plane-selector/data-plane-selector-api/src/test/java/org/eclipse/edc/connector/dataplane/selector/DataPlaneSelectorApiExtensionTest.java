@@ -18,12 +18,15 @@ import org.eclipse.edc.boot.system.DefaultServiceExtensionContext;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.api.management.configuration.transform.ManagementApiTypeTransformerRegistry;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.DataplaneSelectorApiController;
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneInstanceIndex;
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectFromDataPlaneInstanceTransformer;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToDataPlaneInstanceTransformer;
+import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToDataPlaneLoadTransformer;
 import org.eclipse.edc.connector.dataplane.selector.transformer.JsonObjectToSelectionRequestTransformer;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -62,8 +65,9 @@ class DataPlaneSelectorApiExtensionTest {
         context.registerService(TypeManager.class, new TypeManager());
         context.registerService(WebService.class, webService);
         context.registerService(ManagementApiConfiguration.class, managementApiConfiguration);
+        var store = mock(DataPlaneInstanceStore.class);
         context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(mock(DataPlaneSelector.class),
-                mock(DataPlaneInstanceStore.class), mock(SelectionStrategyRegistry.class), new NoopTransactionContext()));
+                store, mock(SelectionStrategyRegistry.class), new NoopTransactionContext(), new DataPlaneInstanceIndex(store), new DataPlaneLoadRegistry()));
 
         context.registerService(ManagementApiTypeTransformerRegistry.class, transformerRegistry);
         extension = factory.constructInstance(DataPlaneSelectorApiExtension.class);
@@ -79,6 +83,7 @@ class DataPlaneSelectorApiExtensionTest {
         verify(transformerRegistry).register(isA(JsonObjectFromDataPlaneInstanceTransformer.class));
         verify(transformerRegistry).register(isA(JsonObjectToDataPlaneInstanceTransformer.class));
         verify(transformerRegistry).register(isA(JsonObjectToSelectionRequestTransformer.class));
+        verify(transformerRegistry).register(isA(JsonObjectToDataPlaneLoadTransformer.class));
     }
 
     @NotNull
@@ -19,6 +19,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
@@ -224,6 +225,36 @@ public class DataPlaneSelectorApiControllerTest {
         assertThat(result.getString(ID)).isEqualTo("test-id1");
     }
 
+    @Test
+    void reportLoad(DataPlaneInstanceStore store) {
+        saveInstances(List.of(createInstance("test-id")), store);
+        var load = Json.createObjectBuilder()
+                .add(DataPlaneLoad.ACTIVE_FLOWS, 12)
+                .add(DataPlaneLoad.QUEUE_DEPTH, 3)
+                .build();
+
+        baseRequest()
+                .body(load)
+                .contentType(JSON)
+                .post("/test-id/load")
+                .then()
+                .statusCode(204);
+    }
+
+    @Test
+    void reportLoad_instanceNotFound() {
+        var load = Json.createObjectBuilder()
+                .add(DataPlaneLoad.ACTIVE_FLOWS, 12)
+                .build();
+
+        baseRequest()
+                .body(load)
+                .contentType(JSON)
+                .post("/not-existent/load")
+                .then()
+                .statusCode(404);
+    }
+
     protected RequestSpecification baseRequest() {
         return given()
                 .port(PORT)
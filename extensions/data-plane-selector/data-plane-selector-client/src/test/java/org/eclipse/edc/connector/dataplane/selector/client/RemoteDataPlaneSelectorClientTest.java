@@ -31,7 +31,9 @@ import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdArrayWriter;
 import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdInterceptor;
+import org.eclipse.edc.web.jersey.jsonld.JerseyJsonLdReader;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -109,7 +111,9 @@ class RemoteDataPlaneSelectorClientTest extends RestControllerTestBase {
     }
 
     @Override
-    protected Object additionalResource() {
-        return new JerseyJsonLdInterceptor(new TitaniumJsonLd(mock()), JacksonJsonLd.createObjectMapper());
+    protected List<Object> additionalResources() {
+        var jsonLd = new TitaniumJsonLd(mock());
+        var objectMapper = JacksonJsonLd.createObjectMapper();
+        return List.of(new JerseyJsonLdReader(jsonLd, objectMapper), new JerseyJsonLdArrayWriter(jsonLd, objectMapper), new JerseyJsonLdInterceptor(jsonLd));
     }
 }
@@ -23,13 +23,19 @@ dependencies {
     api(project(":spi:common:http-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:data-plane:data-plane-spi"))
+    implementation(project(":spi:common:auth-spi"))
+    implementation(project(":spi:control-plane:transfer-data-plane-spi"))
+    implementation(project(":core:common:jwt-core"))
+    implementation(project(":core:common:util"))
     implementation(project(":core:data-plane:data-plane-util"))
     implementation(project(":extensions:common:api:control-api-configuration"))
 
     implementation(libs.jakarta.rsApi)
+    implementation(libs.nimbus.jwt)
 
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
     testImplementation(libs.jersey.multipart)
     testImplementation(libs.restAssured)
     testImplementation(libs.mockserver.netty)
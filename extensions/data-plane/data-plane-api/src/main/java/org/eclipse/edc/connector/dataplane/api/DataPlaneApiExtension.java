@@ -14,15 +14,27 @@
 
 package org.eclipse.edc.connector.dataplane.api;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.eclipse.edc.api.auth.spi.AuthenticationService;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
+import org.eclipse.edc.connector.dataplane.api.controller.ConsumerPullTokenRevocationApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
+import org.eclipse.edc.connector.dataplane.api.validation.LocalConsumerPullTransferDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -32,7 +44,14 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
-import java.util.concurrent.Executors;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
 
 /**
  * This extension provides the Data Plane API:
@@ -49,6 +68,19 @@ public class DataPlaneApiExtension implements ServiceExtension {
 
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
+    @Setting(value = "Alias of the Control Plane public key used to validate the access tokens locally, retrieved from the vault. " +
+            "Local validation requires a DataEncrypter and does not check that the contract agreement still exists, revoked contracts have to be pushed to the revocation endpoint. " +
+            "If not set, the tokens are validated by calling the Control Plane")
+    private static final String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.dataplane.token.verifier.publickey.alias";
+    @Setting(value = "Maximum number of validated access tokens kept in cache until they expire, 0 disables the cache", type = "int")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.cache.size";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum validity in seconds of the access tokens issued by the Control Plane, the revoked contracts are remembered for this long", type = "long", defaultValue = DEFAULT_TOKEN_MAX_VALIDITY_SECONDS + "")
+    private static final String TOKEN_MAX_VALIDITY_SECONDS = "edc.dataplane.token.max.validity.seconds";
+    private static final long DEFAULT_TOKEN_MAX_VALIDITY_SECONDS = 600;
+    @Setting(value = "Maximum number of data requests streamed concurrently by the public API, further requests are rejected with 503 Service Unavailable", type = "int", defaultValue = DEFAULT_PUBLIC_API_MAX_THREADS + "")
+    private static final String PUBLIC_API_MAX_THREADS = "edc.dataplane.api.public.max.threads";
+    private static final int DEFAULT_PUBLIC_API_MAX_THREADS = 100;
 
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
@@ -79,6 +111,18 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DataEncrypter dataEncrypter;
+
+    @Inject
+    private AuthenticationService authenticationService;
+
     @Override
     public String name() {
         return NAME;
@@ -88,17 +132,60 @@ public class DataPlaneApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
 
-        var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
-
-        var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        var dataAddressResolver = dataAddressResolver(context);
 
+        // like a cached thread pool, but bounded: when every thread is busy the request is rejected instead of queued
+        var maxThreads = context.getSetting(PUBLIC_API_MAX_THREADS, DEFAULT_PUBLIC_API_MAX_THREADS);
         var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+                .instrument(new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>()), DataPlanePublicApiController.class.getSimpleName());
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
+        if (dataAddressResolver instanceof CachingDataAddressResolver cachingResolver) {
+            webService.registerResource(controlApiConfiguration.getContextAlias(), new ConsumerPullTokenRevocationApiController(cachingResolver, authenticationService));
+        }
 
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
         var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver, monitor, executorService);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
     }
+
+    private DataAddressResolver dataAddressResolver(ServiceExtensionContext context) {
+        DataAddressResolver resolver;
+        var publicKeyAlias = context.getSetting(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS, null);
+        if (publicKeyAlias != null) {
+            if (dataEncrypter == null) {
+                throw new EdcException(format("No DataEncrypter registered, it is required to validate the tokens locally (%s)", TOKEN_VERIFIER_PUBLIC_KEY_ALIAS));
+            }
+            resolver = new LocalConsumerPullTransferDataAddressResolver(publicKey(publicKeyAlias), dataEncrypter, typeManager, clock);
+        } else {
+            var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
+            resolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        }
+
+        var cacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return resolver;
+        }
+        var maxTokenValidity = Duration.ofSeconds(context.getSetting(TOKEN_MAX_VALIDITY_SECONDS, DEFAULT_TOKEN_MAX_VALIDITY_SECONDS));
+        return new CachingDataAddressResolver(resolver, cacheSize, maxTokenValidity, clock);
+    }
+
+    private PublicKey publicKey(String alias) {
+        var pem = vault.resolveSecret(alias);
+        if (pem == null) {
+            throw new EdcException("Failed to resolve public key with alias: " + alias);
+        }
+        try {
+            var jwk = JWK.parseFromPEMEncodedObjects(pem);
+            if (jwk instanceof RSAKey rsaKey) {
+                return rsaKey.toPublicKey();
+            } else if (jwk instanceof ECKey ecKey) {
+                return ecKey.toPublicKey();
+            }
+            throw new EdcException("Public key algorithm is not supported: " + jwk.getKeyType());
+        } catch (JOSEException e) {
+            throw new EdcException("Failed to parse public key with alias " + alias + ": " + e.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.ws.rs.container.ContainerRequestContext;
+
+@OpenAPIDefinition
+@Tag(name = "Data Plane token revocation API",
+        description = "Api targeted by the Control Plane to revoke the access tokens cached by the Data Plane for consumer pull transfers.")
+public interface ConsumerPullTokenRevocationApi {
+
+    @Operation(description = "Revokes all the access tokens issued for the contract: they are evicted from the cache and rejected from then on.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+                    @ApiResponse(responseCode = "401", description = "Request not authenticated")
+            }
+    )
+    void revoke(String contractId, ContainerRequestContext requestContext);
+}
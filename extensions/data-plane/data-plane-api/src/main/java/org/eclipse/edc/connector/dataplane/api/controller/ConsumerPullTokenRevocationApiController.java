@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Context;
+import org.eclipse.edc.api.auth.spi.AuthenticationRequestFilter;
+import org.eclipse.edc.api.auth.spi.AuthenticationService;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
+
+/**
+ * Revokes the cached access tokens of a contract. The request is authenticated with the {@link AuthenticationService},
+ * as the revocation is done on behalf of the Control Plane.
+ */
+@Path("/token")
+public class ConsumerPullTokenRevocationApiController implements ConsumerPullTokenRevocationApi {
+    private final CachingDataAddressResolver resolver;
+    private final AuthenticationRequestFilter authenticationFilter;
+
+    public ConsumerPullTokenRevocationApiController(CachingDataAddressResolver resolver, AuthenticationService authenticationService) {
+        this.resolver = resolver;
+        this.authenticationFilter = new AuthenticationRequestFilter(authenticationService);
+    }
+
+    @POST
+    @Override
+    @Path("/revocation/{contractId}")
+    public void revoke(@PathParam("contractId") String contractId, @Context ContainerRequestContext requestContext) {
+        authenticationFilter.filter(requestContext);
+        resolver.revoke(contractId);
+    }
+}
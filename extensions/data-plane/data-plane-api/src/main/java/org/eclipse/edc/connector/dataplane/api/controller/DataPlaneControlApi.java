@@ -19,6 +19,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.ws.rs.container.AsyncResponse;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
@@ -40,4 +41,12 @@ public interface DataPlaneControlApi {
             responses = @ApiResponse(responseCode = "200", description = "Missing access token")
     )
     DataPlaneStore.State getTransferState(String processId);
+
+    @Operation(description = "Get the live progress of a running data transfer: the bytes and parts read so far and the time of the first byte.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The progress of the data transfer"),
+                    @ApiResponse(responseCode = "404", description = "No data transfer is running for the process")
+            }
+    )
+    TransferProgress getTransferProgress(String processId);
 }
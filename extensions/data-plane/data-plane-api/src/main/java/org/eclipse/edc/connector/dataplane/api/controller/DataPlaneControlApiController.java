@@ -25,8 +25,10 @@ import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationError;
@@ -64,4 +66,15 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
     public DataPlaneStore.State getTransferState(@PathParam("processId") String processId) {
         return dataPlaneManager.transferState(processId);
     }
+
+    @GET
+    @Override
+    @Path("/{processId}/progress")
+    public TransferProgress getTransferProgress(@PathParam("processId") String processId) {
+        var progress = dataPlaneManager.transferProgress(processId);
+        if (progress == null) {
+            throw new ObjectNotFoundException(TransferProgress.class, processId);
+        }
+        return progress;
+    }
 }
@@ -29,26 +29,34 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
-import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.internalErrors;
+import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.serviceUnavailable;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationError;
 
 @Path("{any:.*}")
 @Produces(MediaType.APPLICATION_JSON)
 public class DataPlanePublicApiController implements DataPlanePublicApi {
 
+    private static final String RANGE = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+
     private final DataPlaneManager dataPlaneManager;
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
@@ -140,23 +148,49 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(dataFlowRequest.getId(), stream, executorService, monitor);
+        AsyncStreamingDataSink.AsyncResponseContext asyncResponseContext = callback -> {
+            StreamingOutput output = outputStream -> callback.outputStreamConsumer().accept(outputStream);
+            return response.resume(toResponse(callback, output));
+        };
+        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService, monitor, ByteRange.parse(context.getHeaderString(RANGE)));
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
-                        if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
-                        } else {
+                        if (result.failed()) {
                             response.resume(internalErrors(result.getFailureMessages()));
+                        } else if (response.isSuspended()) {
+                            // the source did not provide any part
+                            response.resume(Response.noContent().build());
                         }
+                    } else if (unwrap(throwable) instanceof RejectedExecutionException) {
+                        response.resume(serviceUnavailable("Too many concurrent data requests, retry later"));
                     } else {
                         response.resume(internalErrors(List.of("Unhandled exception occurred during data transfer: " + throwable.getMessage())));
                     }
                 });
     }
 
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * Builds the streaming response, keeping the content type and length reported by the data source. If a byte range
+     * has been served a partial content response is returned.
+     */
+    private Response toResponse(AsyncStreamingDataSink.AsyncResponseCallback callback, StreamingOutput output) {
+        var range = callback.range();
+        var builder = range == null
+                ? Response.ok(output)
+                : Response.status(Response.Status.PARTIAL_CONTENT).entity(output).header(CONTENT_RANGE, range.contentRange(callback.totalSize()));
+        builder.type(callback.mediaType());
+        if (callback.size() != DataSource.Part.SIZE_UNKNOWN) {
+            builder.header(HttpHeaders.CONTENT_LENGTH, callback.size());
+        }
+        return builder.build();
+    }
+
     /**
      * Invoke the {@link DataAddressResolver} with the provided token to retrieve the source data address.
      *
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.CONTRACT_ID;
+
+/**
+ * Caches the {@link DataAddress} resolved by another {@link DataAddressResolver} for every token, until the token
+ * expires, so repeated requests with the same token do not go through the token validation again. The cache is bounded,
+ * the least recently used tokens get evicted first.
+ * <p>
+ * The tokens issued for a contract can be revoked with {@link #revoke(String)}: they are evicted from the cache and
+ * rejected, without calling the delegate resolver, until the maximum token validity has elapsed, at which point all the
+ * tokens issued before the revocation have expired and the revocation is forgotten.
+ */
+public class CachingDataAddressResolver implements DataAddressResolver {
+
+    private final DataAddressResolver delegate;
+    private final Clock clock;
+    private final LruCache<String, CachedAddress> cache;
+    private final Duration maxTokenValidity;
+    private final Map<String, Instant> revokedContracts = new ConcurrentHashMap<>();
+
+    public CachingDataAddressResolver(DataAddressResolver delegate, int capacity, Duration maxTokenValidity, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.maxTokenValidity = maxTokenValidity;
+        this.cache = new LruCache<>(capacity);
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var claims = parseClaims(token);
+        if (claims != null && claims.contractId() != null && isRevoked(claims.contractId())) {
+            return Result.failure("Token has been revoked for contract: " + claims.contractId());
+        }
+
+        var cached = get(token);
+        if (cached != null) {
+            return Result.success(cached.address());
+        }
+
+        var result = delegate.resolve(token);
+        if (result.succeeded() && claims != null && claims.expiration() != null) {
+            synchronized (cache) {
+                cache.put(token, new CachedAddress(result.getContent(), claims.expiration(), claims.contractId()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Revoke all the tokens issued for the contract.
+     *
+     * @param contractId the contract id.
+     */
+    public void revoke(String contractId) {
+        var now = clock.instant();
+        revokedContracts.values().removeIf(until -> !until.isAfter(now));
+        revokedContracts.put(contractId, now.plus(maxTokenValidity));
+        synchronized (cache) {
+            cache.values().removeIf(cached -> contractId.equals(cached.contractId()));
+        }
+    }
+
+    private boolean isRevoked(String contractId) {
+        var until = revokedContracts.get(contractId);
+        if (until == null) {
+            return false;
+        }
+        if (!until.isAfter(clock.instant())) {
+            revokedContracts.remove(contractId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private CachedAddress get(String token) {
+        synchronized (cache) {
+            var cached = cache.get(token);
+            if (cached == null) {
+                return null;
+            }
+            if (!cached.expiration().isAfter(clock.instant())) {
+                cache.remove(token);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Read the claims needed for caching without verifying the token: they are trusted only once the delegate resolver
+     * has validated the token, with the exception of the contract id that is used to reject revoked tokens.
+     */
+    @Nullable
+    private TokenClaims parseClaims(String token) {
+        try {
+            var claims = SignedJWT.parse(token).getJWTClaimsSet();
+            var expiration = claims.getExpirationTime();
+            return new TokenClaims(claims.getStringClaim(CONTRACT_ID), expiration != null ? expiration.toInstant() : null);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private record TokenClaims(@Nullable String contractId, @Nullable Instant expiration) {
+    }
+
+    private record CachedAddress(DataAddress address, Instant expiration, @Nullable String contractId) {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
+import org.eclipse.edc.jwt.TokenValidationRulesRegistryImpl;
+import org.eclipse.edc.jwt.TokenValidationServiceImpl;
+import org.eclipse.edc.jwt.spi.TokenValidationService;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.security.PublicKey;
+import java.time.Clock;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.DATA_ADDRESS;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
+/**
+ * Resolves the access token received in input of the Data Plane public API without calling the Control Plane: the
+ * token signature is verified with the public key of the Control Plane, and the {@link DataAddress} contained in its
+ * claims is decrypted locally.
+ * <p>
+ * Unlike the Control Plane token validation endpoint, the existence of the contract agreement is not checked, tokens of
+ * contracts that should not be served anymore can be revoked through the {@link CachingDataAddressResolver}.
+ */
+public class LocalConsumerPullTransferDataAddressResolver implements DataAddressResolver {
+
+    private final TokenValidationService tokenValidationService;
+    private final DataEncrypter dataEncrypter;
+    private final TypeManager typeManager;
+
+    public LocalConsumerPullTransferDataAddressResolver(PublicKey publicKey, DataEncrypter dataEncrypter, TypeManager typeManager, Clock clock) {
+        var rulesRegistry = new TokenValidationRulesRegistryImpl();
+        rulesRegistry.addRule((claims, additional) -> checkExpiration(claims, clock));
+        this.tokenValidationService = new TokenValidationServiceImpl(id -> publicKey, rulesRegistry);
+        this.dataEncrypter = dataEncrypter;
+        this.typeManager = typeManager;
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        return tokenValidationService.validate(token)
+                .compose(this::extractDataAddressClaim)
+                .compose(this::toDataAddress);
+    }
+
+    private Result<String> extractDataAddressClaim(ClaimToken claims) {
+        var claim = claims.getClaim(DATA_ADDRESS);
+        if (!(claim instanceof String)) {
+            return Result.failure(format("Missing claim `%s` in token", DATA_ADDRESS));
+        }
+        return Result.success((String) claim);
+    }
+
+    private Result<DataAddress> toDataAddress(String claim) {
+        try {
+            return Result.success(typeManager.readValue(dataEncrypter.decrypt(claim), DataAddress.class));
+        } catch (Exception e) {
+            return Result.failure("Failed to decrypt the data address contained in the token: " + e.getMessage());
+        }
+    }
+
+    private static Result<Void> checkExpiration(ClaimToken claims, Clock clock) {
+        var expiration = claims.getInstantClaim(EXPIRATION_TIME);
+        if (expiration == null) {
+            return Result.failure("Missing expiration time in token");
+        }
+        if (clock.instant().isAfter(expiration)) {
+            return Result.failure("Token has expired on " + expiration);
+        }
+        return Result.success();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import io.restassured.specification.RequestSpecification;
+import org.eclipse.edc.api.auth.spi.AuthenticationService;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
+import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ApiTest
+class ConsumerPullTokenRevocationApiControllerTest extends RestControllerTestBase {
+
+    private final CachingDataAddressResolver resolver = mock(CachingDataAddressResolver.class);
+    private final AuthenticationService authenticationService = mock(AuthenticationService.class);
+
+    @Test
+    void revoke() {
+        when(authenticationService.isAuthenticated(anyMap())).thenReturn(true);
+
+        baseRequest()
+                .header("x-api-key", "key")
+                .post("/token/revocation/contract-id")
+                .then()
+                .statusCode(204);
+
+        verify(resolver).revoke("contract-id");
+    }
+
+    @Test
+    void revoke_shouldReturnUnauthorized_whenNotAuthenticated() {
+        when(authenticationService.isAuthenticated(anyMap())).thenReturn(false);
+
+        baseRequest()
+                .post("/token/revocation/contract-id")
+                .then()
+                .statusCode(401);
+
+        verifyNoInteractions(resolver);
+    }
+
+    @Override
+    protected Object controller() {
+        return new ConsumerPullTokenRevocationApiController(resolver, authenticationService);
+    }
+
+    private RequestSpecification baseRequest() {
+        return given()
+                .baseUri("http://localhost:" + port)
+                .when();
+    }
+}
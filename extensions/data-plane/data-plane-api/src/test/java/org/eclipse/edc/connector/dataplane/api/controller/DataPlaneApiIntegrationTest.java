@@ -21,7 +21,9 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
 import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSinkFactory;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.junit.extensions.EdcExtension;
@@ -46,12 +48,17 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -155,6 +162,37 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager, never()).initiateTransfer(any());
     }
 
+    @Test
+    void controlApi_should_returnTransferProgress_if_transferIsRunning() {
+        var processId = UUID.randomUUID().toString();
+        var progress = new TransferProgress(processId, "source", "destination", 1000);
+        progress.partOpened();
+        progress.bytesRead(42, 1500);
+        when(dataPlaneManager.transferProgress(processId)).thenReturn(progress);
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .get("/control/transfer/{processId}/progress", processId)
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .body("processId", is(processId))
+                .body("sourceType", is("source"))
+                .body("bytes", is(42))
+                .body("parts", is(1))
+                .body("firstByteAt", is(1500));
+    }
+
+    @Test
+    void controlApi_should_returnNotFound_if_transferIsNotRunning() {
+        when(dataPlaneManager.transferProgress(any())).thenReturn(null);
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .get("/control/transfer/{processId}/progress", UUID.randomUUID().toString())
+                .then()
+                .statusCode(Response.Status.NOT_FOUND.getStatusCode());
+    }
+
     @Test
     void publicApi_should_returnBadRequest_if_missingAuthorizationHeader() {
         given().port(PUBLIC_API_PORT)
@@ -276,7 +314,7 @@ class DataPlaneApiIntegrationTest {
                 );
         when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
         when(dataPlaneManager.transfer(any(DataSink.class), any()))
-                .thenReturn(completedFuture(StreamResult.success()));
+                .thenAnswer(invocation -> invocation.getArgument(0, DataSink.class).transfer(testSource("application/xml", "<data/>".getBytes())));
 
         given()
                 .port(PUBLIC_API_PORT)
@@ -284,7 +322,10 @@ class DataPlaneApiIntegrationTest {
                 .when()
                 .post("/public/any?foo=bar")
                 .then()
-                .statusCode(Response.Status.OK.getStatusCode());
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType("application/xml")
+                .header(CONTENT_LENGTH, "7")
+                .body(is("<data/>"));
 
         verify(dataPlaneManager).validate(requestCaptor.capture());
         verify(dataPlaneManager).transfer(ArgumentCaptor.forClass(DataSink.class).capture(), requestCaptor.capture());
@@ -298,6 +339,88 @@ class DataPlaneApiIntegrationTest {
                 });
     }
 
+    @Test
+    void publicApi_should_returnNoContent_if_sourceHasNoParts() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenReturn(completedFuture(StreamResult.success()));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.NO_CONTENT.getStatusCode());
+    }
+
+    @Test
+    void publicApi_should_returnPartialContent_if_rangeRequested() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, DataSink.class).transfer(testSource("application/octet-stream", "0123456789".getBytes())));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .header("Range", "bytes=2-5")
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                .header("Content-Range", "bytes 2-5/10")
+                .body(is("2345"));
+    }
+
+    private DataSource testSource(String mediaType, byte[] content) {
+        var part = new DataSource.Part() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public long size() {
+                return content.length;
+            }
+
+            @Override
+            public String mediaType() {
+                return mediaType;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public boolean supportsRandomAccess() {
+                return true;
+            }
+
+            @Override
+            public byte[] read(long offset, long bytes) {
+                return Arrays.copyOfRange(content, (int) offset, (int) (offset + bytes));
+            }
+        };
+        return () -> StreamResult.success(Stream.of(part));
+    }
+
     private DataAddress testDestAddress() {
         return DataAddress.Builder.newInstance().type("test").build();
     }
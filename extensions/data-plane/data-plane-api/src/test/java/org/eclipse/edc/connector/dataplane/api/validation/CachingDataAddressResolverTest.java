@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataAddressResolverTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final DataAddressResolver delegate = mock();
+    private final DataAddress address = DataAddress.Builder.newInstance().type("test").build();
+    private CachingDataAddressResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        resolver = new CachingDataAddressResolver(delegate, 10, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    void resolve_shouldCallDelegateOnce_whenTokenIsNotExpired() throws JOSEException {
+        var token = token("contractId", now.plusSeconds(60));
+
+        assertThat(resolver.resolve(token).getContent()).isEqualTo(address);
+        assertThat(resolver.resolve(token).getContent()).isEqualTo(address);
+
+        verify(delegate, times(1)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldCallDelegateAgain_whenTokenIsExpired() throws JOSEException {
+        var token = token("contractId", now.plusSeconds(60));
+        resolver.resolve(token);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(61));
+        when(delegate.resolve(token)).thenReturn(Result.failure("Token has expired"));
+
+        assertThat(resolver.resolve(token).failed()).isTrue();
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenDelegateFails() throws JOSEException {
+        var token = token("contractId", now.plusSeconds(60));
+        when(delegate.resolve(token)).thenReturn(Result.failure("invalid"));
+
+        assertThat(resolver.resolve(token).failed()).isTrue();
+        assertThat(resolver.resolve(token).failed()).isTrue();
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenTokenIsNotJwt() {
+        resolver.resolve("opaque");
+        resolver.resolve("opaque");
+
+        verify(delegate, times(2)).resolve("opaque");
+    }
+
+    @Test
+    void revoke_shouldRejectTokensOfTheContract() throws JOSEException {
+        var cached = token("contractId", now.plusSeconds(60));
+        resolver.resolve(cached);
+
+        var notCached = token("contractId", now.plusSeconds(120));
+
+        resolver.revoke("contractId");
+
+        assertThat(resolver.resolve(cached).failed()).isTrue();
+        assertThat(resolver.resolve(notCached).failed()).isTrue();
+        assertThat(resolver.resolve(token("otherContractId", now.plusSeconds(60))).succeeded()).isTrue();
+        verify(delegate, times(1)).resolve(cached);
+        verify(delegate, never()).resolve(notCached);
+    }
+
+    @Test
+    void revoke_shouldForgetTheRevocation_whenMaxTokenValidityHasElapsed() throws JOSEException {
+        resolver.revoke("contractId");
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(10)));
+        var token = token("contractId", now.plus(Duration.ofMinutes(20)));
+
+        assertThat(resolver.resolve(token).succeeded()).isTrue();
+        verify(delegate).resolve(token);
+    }
+
+    private String token(String contractId, Instant expiration) throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).keyID("key").generate();
+        var claims = new JWTClaimsSet.Builder()
+                .claim("cid", contractId)
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalConsumerPullTransferDataAddressResolverTest {
+
+    private final Instant now = Instant.now();
+    private final TypeManager typeManager = new TypeManager();
+    private final DataEncrypter dataEncrypter = mock();
+    private final DataAddress address = DataAddress.Builder.newInstance().type("test").property("key", "value").build();
+    private ECKey signingKey;
+    private LocalConsumerPullTransferDataAddressResolver resolver;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new ECKeyGenerator(Curve.P_256).keyID("key").generate();
+        when(dataEncrypter.decrypt("encrypted")).thenReturn(typeManager.writeValueAsString(address));
+        resolver = new LocalConsumerPullTransferDataAddressResolver(signingKey.toPublicKey(), dataEncrypter, typeManager, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void resolve_shouldReturnDecryptedDataAddress() throws JOSEException {
+        var result = resolver.resolve(token(signingKey, now.plusSeconds(60)));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getType()).isEqualTo("test");
+        assertThat(result.getContent().getStringProperty("key")).isEqualTo("value");
+    }
+
+    @Test
+    void resolve_shouldFail_whenTokenIsExpired() throws JOSEException {
+        var result = resolver.resolve(token(signingKey, now.minusSeconds(1)));
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void resolve_shouldFail_whenSignedWithAnotherKey() throws JOSEException {
+        var otherKey = new ECKeyGenerator(Curve.P_256).keyID("key").generate();
+
+        var result = resolver.resolve(token(otherKey, now.plusSeconds(60)));
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void resolve_shouldFail_whenDecryptionFails() throws JOSEException {
+        when(dataEncrypter.decrypt(anyString())).thenThrow(new IllegalStateException("cannot decrypt"));
+
+        var result = resolver.resolve(token(signingKey, now.plusSeconds(60)));
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private String token(ECKey key, Instant expiration) throws JOSEException {
+        var claims = new JWTClaimsSet.Builder()
+                .claim("cid", "contractId")
+                .claim("dad", "encrypted")
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+        return jwt.serialize();
+    }
+}
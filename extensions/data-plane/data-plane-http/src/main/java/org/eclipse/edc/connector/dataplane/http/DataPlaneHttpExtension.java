@@ -44,6 +44,13 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Size in bytes of the ranges used to fetch the source content when the server supports byte ranges, 0 disables ranged fetching", defaultValue = "0", type = "long")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_PART_SIZE = "edc.dataplane.http.source.range.part.size";
+
+    @Setting(value = "Number of ranges of the source content that are fetched concurrently", defaultValue = "4", type = "int")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_CONCURRENCY = "edc.dataplane.http.source.range.concurrency";
+    private static final int DEFAULT_RANGE_CONCURRENCY = 4;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -74,7 +81,9 @@ public class DataPlaneHttpExtension implements ServiceExtension {
 
         var httpRequestFactory = new HttpRequestFactory();
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var rangePartSize = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_PART_SIZE, 0L);
+        var rangeConcurrency = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_CONCURRENCY, DEFAULT_RANGE_CONCURRENCY);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, rangePartSize, rangeConcurrency);
         pipelineService.registerFactory(sourceFactory);
 
         var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
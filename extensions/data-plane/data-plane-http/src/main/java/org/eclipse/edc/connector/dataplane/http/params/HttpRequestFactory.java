@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestB
 import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.StringRequestBodySupplier;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,6 +30,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 /**
@@ -62,7 +64,20 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier) {
-        var requestBody = createRequestBody(params, bodySupplier);
+        return toRequest(params, bodySupplier, SIZE_UNKNOWN);
+    }
+
+    /**
+     * Creates HTTP request from the provided set of parameters and the request body supplier. When the content length
+     * is known the body is streamed with a Content-Length header, otherwise it is sent as configured in the parameters.
+     *
+     * @param params        the http request parameters
+     * @param bodySupplier  the request body supplier.
+     * @param contentLength the length of the body, or {@link DataSource.Part#SIZE_UNKNOWN} if it is not known.
+     * @return HTTP request.
+     */
+    public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier, long contentLength) {
+        var requestBody = createRequestBody(params, bodySupplier, contentLength);
         var requestBuilder = new Request.Builder()
                 .url(toUrl(params))
                 .method(params.getMethod(), requestBody);
@@ -71,11 +86,14 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, long contentLength) {
         var contentType = params.getContentType();
         if (bodySupplier == null || contentType == null) {
             return null;
         }
+        if (contentLength != SIZE_UNKNOWN) {
+            return new NonChunkedTransferRequestBody(bodySupplier, contentType, contentLength);
+        }
         return params.isNonChunkedTransfer()
                 ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
                 : new ChunkedTransferRequestBody(bodySupplier, contentType);
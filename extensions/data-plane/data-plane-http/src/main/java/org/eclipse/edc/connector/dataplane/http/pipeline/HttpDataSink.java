@@ -28,7 +28,9 @@ import java.util.Objects;
 import static java.lang.String.format;
 
 /**
- * Writes data in a streaming fashion to an HTTP endpoint.
+ * Writes data in a streaming fashion to an HTTP endpoint, every part is sent with its own request. The parts with a
+ * known size are streamed with a Content-Length header, the others with chunked encoding, so the memory used does not
+ * depend on the size of the parts.
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Void> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
@@ -40,15 +42,13 @@ public class HttpDataSink extends ParallelSink {
     @Override
     protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part::openStream);
+            var request = requestFactory.toRequest(params, part::openStream, part.size());
             try (var response = httpClient.execute(request)) {
                 if (!response.isSuccessful()) {
                     monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
                             response.code(), response.message(), part.name(), request.url().url(), request));
                     return ERROR_WRITING_DATA;
                 }
-
-                return StreamResult.success();
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
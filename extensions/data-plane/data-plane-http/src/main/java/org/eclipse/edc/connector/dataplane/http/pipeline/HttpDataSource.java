@@ -15,27 +15,43 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.MediaType;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+import static org.eclipse.edc.spi.http.FallbackFactories.retryWhenStatusNot2xxOr4xx;
 
 public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String RANGE = "Range";
+    private static final String BYTES = "bytes";
+    private static final String IDENTITY = "identity";
 
     private String name;
     private HttpRequestParams params;
@@ -43,9 +59,18 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private long rangePartSize;
+    private int rangeConcurrency = 1;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
+        if (rangePartSize > 0) {
+            var rangedPart = probeRangedPart();
+            if (rangedPart != null) {
+                return success(Stream.of(rangedPart));
+            }
+        }
+
         var request = requestFactory.toRequest(params);
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
@@ -56,7 +81,8 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
+                var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(Part.DEFAULT_MEDIA_TYPE);
+                return success(Stream.of(new HttpPart(name, body.byteStream(), mediaType, body.contentLength())));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -80,6 +106,62 @@ public class HttpDataSource implements DataSource {
 
     }
 
+    /**
+     * Probes the content with a HEAD request: if the server supports byte ranges and the content is bigger than a single
+     * range, the content is going to be fetched in ranges, otherwise null is returned and the content is fetched with a
+     * single GET request. The ranges refer to the encoded content, so the identity encoding is requested and a content
+     * that is served encoded anyway is fetched with a single request as well.
+     */
+    @Nullable
+    private Part probeRangedPart() {
+        if (!"GET".equalsIgnoreCase(params.getMethod())) {
+            return null;
+        }
+        var request = requestFactory.toRequest(params).newBuilder()
+                .head()
+                .header(ACCEPT_ENCODING, IDENTITY)
+                .build();
+        try (var response = httpClient.execute(request)) {
+            var size = Optional.ofNullable(response.header(CONTENT_LENGTH)).map(Long::parseLong).orElse(Part.SIZE_UNKNOWN);
+            if (!response.isSuccessful() || !BYTES.equals(response.header(ACCEPT_RANGES)) || size <= rangePartSize || isEncoded(response.header(CONTENT_ENCODING))) {
+                return null;
+            }
+            var mediaType = Optional.ofNullable(response.header(CONTENT_TYPE)).orElse(Part.DEFAULT_MEDIA_TYPE);
+            return new RangedHttpPart(name, mediaType, size);
+        } catch (IOException | NumberFormatException e) {
+            monitor.debug(() -> format("Range probe failed for request %s, falling back to a single request: %s", requestId, e.getMessage()));
+            return null;
+        }
+    }
+
+    private boolean isEncoded(@Nullable String contentEncoding) {
+        return contentEncoding != null && !IDENTITY.equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    /**
+     * Fetches a range of the content, every range request is retried on its own according to the client retry policy.
+     */
+    private CompletableFuture<byte[]> fetchRange(ByteRange range) {
+        var request = requestFactory.toRequest(params).newBuilder()
+                .header(RANGE, "bytes=" + range.first() + "-" + range.last())
+                .header(ACCEPT_ENCODING, IDENTITY)
+                .build();
+        return httpClient.executeAsync(request, List.of(retryWhenStatusNot2xxOr4xx()), response -> {
+            if (response.code() != PARTIAL_CONTENT) {
+                throw new EdcException(format("Received code %s fetching range %s-%s for request %s", response.code(), range.first(), range.last(), requestId));
+            }
+            try (var body = response.body()) {
+                var bytes = body == null ? new byte[0] : body.bytes();
+                if (bytes.length != range.length()) {
+                    throw new EdcException(format("Received %s bytes fetching range %s-%s for request %s", bytes.length, range.first(), range.last(), requestId));
+                }
+                return bytes;
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        });
+    }
+
     private HttpDataSource() {
     }
 
@@ -124,6 +206,22 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Size of the ranges used to fetch the content when the server supports them, 0 disables ranged fetching.
+         */
+        public Builder rangePartSize(long rangePartSize) {
+            dataSource.rangePartSize = rangePartSize;
+            return this;
+        }
+
+        /**
+         * Number of ranges fetched concurrently.
+         */
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            dataSource.rangeConcurrency = rangeConcurrency;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
@@ -136,10 +234,14 @@ public class HttpDataSource implements DataSource {
     private static class HttpPart implements Part {
         private final String name;
         private final InputStream content;
+        private final String mediaType;
+        private final long size;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, InputStream content, String mediaType, long size) {
             this.name = name;
             this.content = content;
+            this.mediaType = mediaType;
+            this.size = size;
         }
 
         @Override
@@ -149,7 +251,12 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
         }
 
         @Override
@@ -158,4 +265,50 @@ public class HttpDataSource implements DataSource {
         }
 
     }
+
+    /**
+     * Part whose content is fetched in ranges, a number of them concurrently. It supports random access as well.
+     */
+    private class RangedHttpPart implements Part {
+        private final String name;
+        private final String mediaType;
+        private final long size;
+
+        RangedHttpPart(String name, String mediaType, long size) {
+            this.name = name;
+            this.mediaType = mediaType;
+            this.size = size;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new RangedInputStream(HttpDataSource.this::fetchRange, size, rangePartSize, rangeConcurrency);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var last = Math.min(offset + bytes, size) - 1;
+            return fetchRange(new ByteRange(offset, last)).join();
+        }
+    }
 }
@@ -25,37 +25,56 @@ import java.util.function.Supplier;
  * Writes content into an OK HTTP buffered sink.
  * <p>
  * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * When the content length is known in advance the content is streamed, otherwise all the content is loaded into memory
+ * to compute it, so in that case this class can be used only for small files (up to 50MB) for e.g.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
 public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
+    private Supplier<InputStream> contentSupplier;
+    private long contentLength;
     private byte[] bytes;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
         super(contentType);
         try (var is = contentSupplier.get()) {
             this.bytes = is.readAllBytes();
+            this.contentLength = bytes.length;
         } catch (IOException e) {
             //do nothing
         }
     }
 
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long contentLength) {
+        super(contentType);
+        this.contentSupplier = contentSupplier;
+        this.contentLength = contentLength;
+    }
+
     @Override
     public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+        return contentLength;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
+        // the sink belongs to OkHttp, it gets flushed but not closed
+        if (contentSupplier != null) {
+            var os = sink.outputStream();
+            try (var is = contentSupplier.get()) {
+                is.transferTo(os);
+            }
+            os.flush();
             return;
         }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+        if (bytes == null) {
+            return;
         }
+
+        var os = sink.outputStream();
+        os.write(bytes);
+        os.flush();
     }
 }
-
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Reads a content of known size by fetching consecutive ranges of it. Up to {@code concurrency} ranges are fetched
+ * concurrently ahead of the reader, and they are returned in order, so the memory used is bounded to
+ * {@code concurrency * rangeSize} bytes.
+ */
+class RangedInputStream extends InputStream {
+
+    private final Function<ByteRange, CompletableFuture<byte[]>> fetcher;
+    private final long size;
+    private final long rangeSize;
+    private final int concurrency;
+    private final Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>();
+    private long nextOffset;
+    private byte[] current;
+    private int position;
+    private boolean closed;
+
+    RangedInputStream(Function<ByteRange, CompletableFuture<byte[]>> fetcher, long size, long rangeSize, int concurrency) {
+        this.fetcher = fetcher;
+        this.size = size;
+        this.rangeSize = rangeSize;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureCurrent()) {
+            return -1;
+        }
+        return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureCurrent()) {
+            return -1;
+        }
+        var count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        window.forEach(future -> future.cancel(true));
+        window.clear();
+    }
+
+    private boolean ensureCurrent() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || position >= current.length) {
+            fill();
+            var next = window.poll();
+            if (next == null) {
+                return false;
+            }
+            current = await(next);
+            position = 0;
+        }
+        return true;
+    }
+
+    private void fill() {
+        while (window.size() < concurrency && nextOffset < size) {
+            var last = Math.min(nextOffset + rangeSize, size) - 1;
+            window.add(fetcher.apply(new ByteRange(nextOffset, last)));
+            nextOffset = last + 1;
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching range");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to fetch range", e.getCause());
+        }
+    }
+}
@@ -228,6 +228,21 @@ class HttpRequestFactoryTest {
         assertThat(body.contentLength()).isEqualTo(6);
     }
 
+    @Test
+    void verifyRequestWithKnownContentLength() throws IOException {
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl(BASE_URL)
+                .method(POST.name())
+                .nonChunkedTransfer(false)
+                .build();
+
+        var request = paramsToRequest.toRequest(params, () -> new ByteArrayInputStream("a body".getBytes()), 6);
+
+        var body = request.body();
+        assertThat(body).isNotNull();
+        assertThat(body.contentLength()).isEqualTo(6);
+    }
+
     private void assertBaseUrl(URL url) {
         assertThat(url.getProtocol()).isEqualTo(SCHEME);
         assertThat(url.getHost()).isEqualTo(HOST);
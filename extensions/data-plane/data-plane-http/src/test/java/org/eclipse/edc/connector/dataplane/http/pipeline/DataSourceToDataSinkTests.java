@@ -23,6 +23,9 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.io.ByteArrayInputStream;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -98,6 +102,39 @@ class DataSourceToDataSinkTests {
         verify(interceptor, times(2)).intercept(isA(Interceptor.Chain.class));
     }
 
+    /**
+     * Verifies that every part of a multi-part source is written to the sink.
+     */
+    @Test
+    void verifyAllPartsAreTransferred() throws Exception {
+        var interceptor = mock(Interceptor.class);
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, getRequest(invocation)));
+
+        DataSource dataSource = () -> StreamResult.success(Stream.of(
+                new InputStreamDataSource("part1", new ByteArrayInputStream("first".getBytes())),
+                new InputStreamDataSource("part2", new ByteArrayInputStream("second".getBytes()))
+        ));
+
+        var dataSink = HttpDataSink.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl("https://example.com/sink")
+                        .method(HttpMethod.POST.name())
+                        .contentType(CONTENT_TYPE)
+                        .build())
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .executorService(executor)
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        assertThat(dataSink.transfer(dataSource)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        verify(interceptor, times(2)).intercept(isA(Interceptor.Chain.class));
+    }
+
     /**
      * Verifies an exception thrown by the source endpoint is handled correctly.
      */
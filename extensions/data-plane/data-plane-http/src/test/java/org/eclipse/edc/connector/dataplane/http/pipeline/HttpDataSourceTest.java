@@ -22,6 +22,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailureArgument;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -32,10 +33,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,6 +82,8 @@ class HttpDataSourceTest {
         assertThat(interceptedRequest).isEqualTo(request);
         assertThat(parts).hasSize(1);
         var part = parts.get(0);
+        assertThat(part.mediaType()).isEqualTo("application/json; charset=utf-8");
+        assertThat(part.size()).isEqualTo(json.getBytes().length);
         try (var is = part.openStream()) {
             assertThat(new String(is.readAllBytes())).isEqualTo(json);
         }
@@ -88,6 +91,105 @@ class HttpDataSourceTest {
         verify(requestFactory).toRequest(any());
     }
 
+    @Test
+    void verifyRangedCall_whenServerSupportsRanges() throws IOException {
+        var content = "0123456789abcdefghij";
+        var requests = new CopyOnWriteArrayList<Request>();
+        Interceptor interceptor = chain -> {
+            var intercepted = chain.request();
+            requests.add(intercepted);
+            var response = new Response.Builder().request(intercepted).protocol(HTTP_1_1).message("ok");
+            if ("HEAD".equals(intercepted.method())) {
+                return response.code(200)
+                        .header("Accept-Ranges", "bytes")
+                        .header("Content-Length", String.valueOf(content.length()))
+                        .header("Content-Type", "text/plain")
+                        .body(ResponseBody.create("", MediaType.parse("text/plain")))
+                        .build();
+            }
+            var range = ByteRange.parse(intercepted.header("Range"));
+            var slice = content.substring((int) range.first(), (int) range.last() + 1);
+            return response.code(206).body(ResponseBody.create(slice, MediaType.parse("text/plain"))).build();
+        };
+        var params = mock(HttpRequestParams.class);
+        when(params.getMethod()).thenReturn("GET");
+        when(requestFactory.toRequest(any())).thenReturn(new Request.Builder().url(url).get().build());
+        var source = defaultBuilder(interceptor).params(params).requestFactory(requestFactory)
+                .rangePartSize(6)
+                .rangeConcurrency(2)
+                .build();
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        var part = parts.get(0);
+        assertThat(part.size()).isEqualTo(content.length());
+        assertThat(part.supportsRandomAccess()).isTrue();
+        try (var is = part.openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(new String(part.read(4, 3))).isEqualTo("456");
+        assertThat(requests).extracting(r -> r.header("Range"))
+                .containsExactlyInAnyOrder(null, "bytes=0-5", "bytes=6-11", "bytes=12-17", "bytes=18-19", "bytes=4-6");
+        assertThat(requests).extracting(r -> r.header("Accept-Encoding")).containsOnly("identity");
+    }
+
+    @Test
+    void verifySingleCall_whenContentIsEncoded() throws IOException {
+        var content = "0123456789abcdefghij";
+        var requests = new CopyOnWriteArrayList<Request>();
+        Interceptor interceptor = chain -> {
+            var intercepted = chain.request();
+            requests.add(intercepted);
+            var response = new Response.Builder().request(intercepted).protocol(HTTP_1_1).message("ok").code(200);
+            if ("HEAD".equals(intercepted.method())) {
+                return response
+                        .header("Accept-Ranges", "bytes")
+                        .header("Content-Encoding", "gzip")
+                        .header("Content-Length", String.valueOf(content.length()))
+                        .body(ResponseBody.create("", MediaType.parse("text/plain")))
+                        .build();
+            }
+            return response.body(ResponseBody.create(content, MediaType.parse("text/plain"))).build();
+        };
+        var params = mock(HttpRequestParams.class);
+        when(params.getMethod()).thenReturn("GET");
+        when(requestFactory.toRequest(any())).thenReturn(new Request.Builder().url(url).get().build());
+        var source = defaultBuilder(interceptor).params(params).requestFactory(requestFactory)
+                .rangePartSize(6)
+                .build();
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        assertThat(parts.get(0).supportsRandomAccess()).isFalse();
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(requests).extracting(Request::method).containsExactly("HEAD", "GET");
+        assertThat(requests).extracting(r -> r.header("Range")).containsOnlyNulls();
+    }
+
+    @Test
+    void verifySingleCall_whenServerDoesNotSupportRanges() throws IOException {
+        var json = MAPPER.writeValueAsString(Map.of("key1", "Value1"));
+        var interceptor = new CustomInterceptor(200, ResponseBody.create(json, MediaType.parse("application/json")), "Test message");
+        var params = mock(HttpRequestParams.class);
+        when(params.getMethod()).thenReturn("GET");
+        when(requestFactory.toRequest(any())).thenReturn(new Request.Builder().url(url).get().build());
+        var source = defaultBuilder(interceptor).params(params).requestFactory(requestFactory)
+                .rangePartSize(6)
+                .build();
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        assertThat(parts.get(0).supportsRandomAccess()).isFalse();
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(json);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource
     void verifyCallFailed(StreamFailureArgument argument) {
@@ -124,7 +226,7 @@ class HttpDataSourceTest {
     }
 
     static final class CustomInterceptor implements Interceptor {
-        private final List<Request> requests = new ArrayList<>();
+        private final List<Request> requests = new CopyOnWriteArrayList<>();
         private final int statusCode;
         private final ResponseBody responseBody;
         private final String message;
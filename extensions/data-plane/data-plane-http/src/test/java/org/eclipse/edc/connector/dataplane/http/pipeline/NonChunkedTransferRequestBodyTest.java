@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -62,4 +63,47 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyTransferWhenContentLengthIsKnown() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        var opened = new AtomicBoolean();
+
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            opened.set(true);
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.getBytes().length);
+
+        assertThat(body.contentLength()).isEqualTo(content.getBytes().length);
+        assertThat(opened).describedAs("content should not be read before writing").isFalse();
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+    }
+
+    @Test
+    void verifyTransferDoesNotCloseTheSink() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var closed = new AtomicBoolean();
+        var outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM).writeTo(sink);
+        new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM, content.getBytes().length).writeTo(sink);
+
+        assertThat(outputStream).hasToString(content + content);
+        assertThat(closed).isFalse();
+    }
 }
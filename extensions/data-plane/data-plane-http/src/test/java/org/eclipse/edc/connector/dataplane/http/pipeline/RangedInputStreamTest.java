@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteRange;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangedInputStreamTest {
+
+    private final byte[] content = "0123456789abcdefghij".getBytes();
+
+    @Test
+    void read_shouldReturnRangesInOrder() throws IOException {
+        var ranges = new ArrayList<ByteRange>();
+        try (var stream = new RangedInputStream(range -> {
+            ranges.add(range);
+            return completedFuture(slice(range));
+        }, content.length, 6, 2)) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+
+        assertThat(ranges).containsExactly(new ByteRange(0, 5), new ByteRange(6, 11), new ByteRange(12, 17), new ByteRange(18, 19));
+    }
+
+    @Test
+    void read_shouldFetchAtMostConcurrencyRangesAhead() throws IOException {
+        var pending = new ArrayList<CompletableFuture<byte[]>>();
+        var stream = new RangedInputStream(range -> {
+            var future = new CompletableFuture<byte[]>();
+            future.complete(slice(range));
+            pending.add(future);
+            return future;
+        }, content.length, 2, 3);
+
+        assertThat(stream.read()).isEqualTo('0');
+
+        assertThat(pending).hasSize(3);
+    }
+
+    @Test
+    void read_shouldFail_whenRangeFetchFails() {
+        var stream = new RangedInputStream(range -> CompletableFuture.failedFuture(new RuntimeException("error")), content.length, 6, 2);
+
+        assertThatThrownBy(stream::read).isInstanceOf(IOException.class);
+    }
+
+    private byte[] slice(ByteRange range) {
+        return Arrays.copyOfRange(content, (int) range.first(), (int) range.last() + 1);
+    }
+}
@@ -19,18 +19,29 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaProducerPool;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
 
+    private static final long DEFAULT_PRODUCER_IDLE_TIMEOUT = 60_000;
+    @Setting(value = "Time in milliseconds after which a Kafka producer that is not used by any transfer gets closed", type = "long", defaultValue = DEFAULT_PRODUCER_IDLE_TIMEOUT + "")
+    private static final String PRODUCER_IDLE_TIMEOUT_SETTING = "edc.dataplane.kafka.producer.idle.timeout";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -40,6 +51,13 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private KafkaProducerPool producerPool;
+    private Duration producerIdleTimeout;
+    private ScheduledExecutorService evictionExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -49,8 +67,32 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
         var propertiesFactory = new KafkaPropertiesFactory();
+        producerIdleTimeout = Duration.ofMillis(context.getSetting(PRODUCER_IDLE_TIMEOUT_SETTING, DEFAULT_PRODUCER_IDLE_TIMEOUT));
+        producerPool = new KafkaProducerPool(clock, producerIdleTimeout);
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, producerPool));
+    }
+
+    @Override
+    public void start() {
+        evictionExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("KafkaProducerPoolEviction");
+            thread.setDaemon(true);
+            return thread;
+        }), "KafkaProducerPoolEviction");
+        var interval = Math.max(producerIdleTimeout.toMillis(), 1);
+        evictionExecutor.scheduleWithFixedDelay(producerPool::evictIdle, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+        if (producerPool != null) {
+            producerPool.close();
+        }
     }
 }
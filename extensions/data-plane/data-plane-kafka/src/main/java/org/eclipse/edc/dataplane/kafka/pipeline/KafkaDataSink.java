@@ -14,61 +14,140 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
-import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.metering.MeteredDataSource;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaProducerPool.ProducerLease;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 class KafkaDataSink extends ParallelSink implements Closeable {
 
     private String topic;
-    private Producer<String, byte[]> producer;
+    private Properties producerProperties;
+    private KafkaProducerPool producerPool;
+    private ProducerLease producerLease;
 
     private KafkaDataSink() {
     }
-    
+
+    @Override
+    public CompletableFuture<StreamResult<Void>> transfer(DataSource source) {
+        // the producer is acquired only when the transfer starts, so a sink that never transfers holds no lease
+        try {
+            producerLease = producerPool.acquire(producerProperties);
+        } catch (Exception e) {
+            monitor.severe("Failed to create producer for topic " + topic, e);
+            return CompletableFuture.completedFuture(StreamResult.error("Failed to create producer for topic " + topic + ": " + e.getMessage()));
+        }
+
+        var metered = source instanceof MeteredDataSource it ? it : null;
+        var delegate = metered != null ? metered.getDelegate() : source;
+        var transfer = delegate instanceof KafkaDataSource kafkaSource
+                ? transferRecordsAsync(kafkaSource, metered)
+                : super.transfer(source);
+
+        // the producer is shared through the pool, so it must be given back once the transfer is over
+        return transfer.whenComplete((result, throwable) -> close());
+    }
+
     @Override
     public void close() {
-        if (producer != null) {
-            producer.close();
+        if (producerLease != null) {
+            producerLease.close();
         }
     }
 
+    /**
+     * Publishes all the parts asynchronously, then waits for the acknowledgement of every one of them, so send failures
+     * are reported as the result of the transfer.
+     */
     @Override
     protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        var sends = new ArrayList<Future<RecordMetadata>>(parts.size());
+        for (var part : parts) {
+            try (var is = part.openStream()) {
+                sends.add(producerLease.producer().send(new ProducerRecord<>(topic, null, is.readAllBytes())));
+            } catch (IOException e) {
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            }
+        }
+
+        return awaitAcknowledgements(sends);
+    }
+
+    /**
+     * Runs the fast path on the executor with the trace context of the caller, as {@link ParallelSink} does for the parts.
+     */
+    private CompletableFuture<StreamResult<Void>> transferRecordsAsync(KafkaDataSource source, @Nullable MeteredDataSource metered) {
+        Supplier<StreamResult<Void>> supplier = () -> transferRecords(source, metered);
+        var traceCarrier = telemetry.getTraceCarrierWithCurrentContext();
+        return CompletableFuture.supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService);
     }
 
-    private StreamResult<Void> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
+    /**
+     * Kafka to Kafka fast path: the records polled by the source are passed through as they are, with their keys and
+     * headers, without being wrapped into parts. The producer batches them according to its {@code batch.size} and
+     * {@code linger.ms} settings. The offsets of a polled batch are committed only once all of its records have been
+     * acknowledged, which gives at-least-once delivery. As the parts are bypassed, every record is reported on the
+     * metered source, if any, as a part.
+     */
+    private StreamResult<Void> transferRecords(KafkaDataSource source, @Nullable MeteredDataSource metered) {
+        try (var batches = source.openRecordsStream()) {
+            var iterator = batches.iterator();
+            while (iterator.hasNext()) {
+                var records = iterator.next();
+                var sends = new ArrayList<Future<RecordMetadata>>(records.count());
+                for (var consumerRecord : records) {
+                    if (metered != null) {
+                        metered.getProgress().partOpened();
+                        metered.bytesRead(consumerRecord.value() != null ? consumerRecord.value().length : 0);
+                    }
+                    sends.add(producerLease.producer().send(new ProducerRecord<>(topic, null, consumerRecord.key(), consumerRecord.value(), consumerRecord.headers())));
                 }
-            });
+
+                var result = awaitAcknowledgements(sends);
+                if (result.failed()) {
+                    return result;
+                }
+                source.commit(records);
+            }
             return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        } catch (Exception e) {
+            monitor.severe("Error transferring records to topic " + topic, e);
+            return StreamResult.error("Error transferring records to topic " + topic + ": " + e.getMessage());
         }
     }
 
-    public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
+    private StreamResult<Void> awaitAcknowledgements(List<Future<RecordMetadata>> sends) {
+        for (var send : sends) {
+            try {
+                send.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StreamResult.error("Interrupted while publishing to topic " + topic);
+            } catch (ExecutionException e) {
+                monitor.warning("Failed to publish message to topic " + topic, e.getCause());
+                return StreamResult.error("Failed to publish message to topic " + topic + ": " + e.getCause().getMessage());
+            }
+        }
+        return StreamResult.success();
+    }
 
-        private Properties producerProperties;
+    public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         public static Builder newInstance() {
             return new Builder();
@@ -84,7 +163,12 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
 
         public Builder producerProperties(Properties producerProperties) {
-            this.producerProperties = producerProperties;
+            sink.producerProperties = producerProperties;
+            return this;
+        }
+
+        public Builder producerPool(KafkaProducerPool producerPool) {
+            sink.producerPool = producerPool;
             return this;
         }
 
@@ -92,9 +176,8 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
-
-            sink.producer = new KafkaProducer<>(producerProperties);
+            Objects.requireNonNull(sink.producerProperties, "producerProperties");
+            Objects.requireNonNull(sink.producerPool, "producerPool");
         }
     }
 }
@@ -37,12 +37,14 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
     private final KafkaSinkDataAddressValidation validation;
+    private final KafkaProducerPool producerPool;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, KafkaProducerPool producerPool) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaSinkDataAddressValidation(propertiesFactory);
+        this.producerPool = producerPool;
     }
 
     @Override
@@ -75,6 +77,7 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(topic)
                 .producerProperties(producerProps)
+                .producerPool(producerPool)
                 .executorService(executorService)
                 .build();
     }
@@ -18,6 +18,8 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -29,6 +31,7 @@ import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -66,13 +69,30 @@ class KafkaDataSource implements DataSource, Closeable {
                         .map(KafkaPart::new)));
     }
 
+    /**
+     * Opens the stream of the polled record batches, it's used directly by the Kafka sink to pass the records through
+     * without wrapping them into parts.
+     */
     @NotNull
-    private Stream<ConsumerRecords<String, byte[]>> openRecordsStream() {
+    Stream<ConsumerRecords<String, byte[]>> openRecordsStream() {
         return StreamSupport.stream(
                 Spliterators.spliteratorUnknownSize(new ConsumerRecordsIterator(), 0),
                 /* not parallel */ false);
     }
 
+    /**
+     * Commits the offsets of a polled batch, once all of its records have been delivered.
+     */
+    void commit(ConsumerRecords<String, byte[]> records) {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        for (var partition : records.partitions()) {
+            var partitionRecords = records.records(partition);
+            var lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+            offsets.put(partition, new OffsetAndMetadata(lastOffset + 1));
+        }
+        consumer.commitSync(offsets);
+    }
+
     public static class Builder {
 
         private Properties consumerProperties;
@@ -175,6 +195,9 @@ class KafkaDataSource implements DataSource, Closeable {
 
         @Override
         public ConsumerRecords<String, byte[]> next() {
+            // the offsets are committed manually, here the records returned by the previous poll get committed, as the
+            // consumer auto commit would do
+            consumer.commitAsync();
             var records = consumer.poll(Duration.ZERO);
             while (records.isEmpty()) {
                 records = consumer.poll(pollDuration);
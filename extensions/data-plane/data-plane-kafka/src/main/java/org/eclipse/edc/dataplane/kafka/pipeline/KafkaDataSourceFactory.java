@@ -78,6 +78,8 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
         var consumerProps = propertiesFactory.getConsumerProperties(source.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // offsets are committed by the source, so the Kafka sink can commit them only once the records are acknowledged
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 
         var topic = Optional.ofNullable(source.getStringProperty(TOPIC))
                 .orElseThrow(() -> new IllegalArgumentException(format("Missing `%s` config", TOPIC)));
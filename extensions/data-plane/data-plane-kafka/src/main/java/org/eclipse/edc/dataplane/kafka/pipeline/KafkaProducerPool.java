@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Shares the Kafka producers between the transfers that use the same producer properties. A {@link KafkaProducer} is
+ * thread safe, so a single instance can serve any number of concurrent transfers.
+ * <p>
+ * Every producer is reference counted: it stays open as long as a transfer holds it, and it gets closed once it has not
+ * been used by any transfer for longer than the idle timeout. Idle producers are evicted when a producer gets acquired
+ * or released, and by {@link #evictIdle()}, which is meant to be invoked periodically so that producers get closed also
+ * when no more transfers are run.
+ */
+public class KafkaProducerPool implements AutoCloseable {
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+    private final Clock clock;
+    private final Duration idleTimeout;
+    private final Map<Map<Object, Object>, PooledProducer> producers = new HashMap<>();
+
+    public KafkaProducerPool(Clock clock, Duration idleTimeout) {
+        this(KafkaProducer::new, clock, idleTimeout);
+    }
+
+    KafkaProducerPool(Function<Properties, Producer<String, byte[]>> producerFactory, Clock clock, Duration idleTimeout) {
+        this.producerFactory = producerFactory;
+        this.clock = clock;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Acquire the producer for the properties, creating it if it does not exist yet. The returned lease must be closed
+     * once the producer is not needed anymore.
+     *
+     * @param properties the producer properties.
+     * @return the lease on the producer.
+     */
+    public ProducerLease acquire(Properties properties) {
+        var key = new HashMap<>(properties);
+        var lease = lease(key, null);
+        if (lease == null) {
+            // creating a producer fetches the cluster metadata, so it is done outside the lock not to hold up the other transfers
+            lease = lease(key, producerFactory.apply(properties));
+        }
+        return lease;
+    }
+
+    /**
+     * Close the producers that have not been used by any transfer for longer than the idle timeout.
+     */
+    public void evictIdle() {
+        List<Producer<String, byte[]>> evicted;
+        synchronized (producers) {
+            evicted = removeIdle();
+        }
+        evicted.forEach(Producer::close);
+    }
+
+    @Override
+    public void close() {
+        List<Producer<String, byte[]>> all;
+        synchronized (producers) {
+            all = producers.values().stream().map(it -> it.producer).toList();
+            producers.clear();
+        }
+        all.forEach(Producer::close);
+    }
+
+    private void release(Map<Object, Object> key) {
+        List<Producer<String, byte[]>> evicted;
+        synchronized (producers) {
+            var pooled = producers.get(key);
+            if (pooled != null && --pooled.references == 0) {
+                pooled.idleSince = clock.instant();
+            }
+            evicted = removeIdle();
+        }
+        evicted.forEach(Producer::close);
+    }
+
+    /**
+     * Take a reference on the pooled producer for the key. If there is none the created producer, if any, gets pooled.
+     * A created producer that is not needed because another one has been pooled in the meantime is closed.
+     *
+     * @return the lease, or null if there is no pooled producer and none was created.
+     */
+    @Nullable
+    private ProducerLease lease(Map<Object, Object> key, @Nullable Producer<String, byte[]> created) {
+        var closing = new ArrayList<Producer<String, byte[]>>();
+        PooledProducer pooled;
+        synchronized (producers) {
+            pooled = producers.get(key);
+            if (pooled == null && created != null) {
+                pooled = new PooledProducer(created);
+                producers.put(key, pooled);
+            } else if (created != null) {
+                closing.add(created);
+            }
+            if (pooled != null) {
+                pooled.references++;
+            }
+            closing.addAll(removeIdle());
+        }
+        closing.forEach(Producer::close);
+        return pooled != null ? new ProducerLease(key, pooled.producer) : null;
+    }
+
+    private List<Producer<String, byte[]>> removeIdle() {
+        var now = clock.instant();
+        var evicted = new ArrayList<Producer<String, byte[]>>();
+        var iterator = producers.values().iterator();
+        while (iterator.hasNext()) {
+            var pooled = iterator.next();
+            if (pooled.references == 0 && !pooled.idleSince.plus(idleTimeout).isAfter(now)) {
+                evicted.add(pooled.producer);
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * A lease on a pooled producer, closing it gives the producer back to the pool.
+     */
+    public class ProducerLease implements AutoCloseable {
+
+        private final Map<Object, Object> key;
+        private final Producer<String, byte[]> producer;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ProducerLease(Map<Object, Object> key, Producer<String, byte[]> producer) {
+            this.key = key;
+            this.producer = producer;
+        }
+
+        public Producer<String, byte[]> producer() {
+            return producer;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+    }
+
+    private static class PooledProducer {
+        private final Producer<String, byte[]> producer;
+        private int references;
+        private Instant idleSince = Instant.MAX;
+
+        PooledProducer(Producer<String, byte[]> producer) {
+            this.producer = producer;
+        }
+    }
+}
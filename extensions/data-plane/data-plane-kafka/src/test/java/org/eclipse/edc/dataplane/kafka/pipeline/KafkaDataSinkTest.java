@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+import org.eclipse.edc.connector.dataplane.util.metering.MeteredDataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.spi.telemetry.TraceCarrier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "destination";
+
+    private final Producer<String, byte[]> producer = mock();
+    private final KafkaProducerPool producerPool = mock();
+    private final KafkaProducerPool.ProducerLease lease = mock();
+    private final KafkaDataSource source = mock();
+    private KafkaDataSink sink;
+
+    @BeforeEach
+    void setUp() {
+        when(producerPool.acquire(any())).thenReturn(lease);
+        when(lease.producer()).thenReturn(producer);
+        sink = KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .topic(TOPIC)
+                .producerProperties(new Properties())
+                .producerPool(producerPool)
+                .executorService(Executors.newSingleThreadExecutor())
+                .monitor(mock(Monitor.class))
+                .build();
+    }
+
+    @Test
+    void build_shouldNotAcquireProducer() {
+        verify(producerPool, never()).acquire(any());
+    }
+
+    @Test
+    void transfer_shouldFail_whenProducerCannotBeCreated() {
+        when(producerPool.acquire(any())).thenThrow(new RuntimeException("invalid configuration"));
+
+        var result = sink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(lease, never()).close();
+    }
+
+    @Test
+    void transfer_shouldPassRecordsThroughAndCommitAfterAcknowledgement() {
+        var value = "value".getBytes();
+        var records = records(new ConsumerRecord<>("source", 0, 0L, "key", value));
+        when(source.openRecordsStream()).thenReturn(Stream.of(records));
+        when(producer.send(any())).thenReturn(completedFuture(mock(RecordMetadata.class)));
+
+        var result = sink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.succeeded()).isTrue());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        var inOrder = inOrder(producer, source, lease);
+        inOrder.verify(producer).send(captor.capture());
+        inOrder.verify(source).commit(records);
+        inOrder.verify(lease).close();
+        assertThat(captor.getValue().topic()).isEqualTo(TOPIC);
+        assertThat(captor.getValue().key()).isEqualTo("key");
+        assertThat(captor.getValue().value()).isSameAs(value);
+    }
+
+    @Test
+    void transfer_shouldPassRecordsThroughAndReportProgress_whenSourceIsMetered() {
+        var records = records(new ConsumerRecord<>("source", 0, 0L, "key", "value".getBytes()));
+        when(source.openRecordsStream()).thenReturn(Stream.of(records));
+        when(producer.send(any())).thenReturn(completedFuture(mock(RecordMetadata.class)));
+        var progress = new TransferProgress("processId", "Kafka", "Kafka", 0);
+
+        var result = sink.transfer(new MeteredDataSource(source, progress, Clock.systemUTC()));
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(source).commit(records);
+        assertThat(progress.getParts()).isEqualTo(1);
+        assertThat(progress.getBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void transfer_shouldNotCommit_whenSendFails() {
+        var records = records(new ConsumerRecord<>("source", 0, 0L, "key", "value".getBytes()));
+        when(source.openRecordsStream()).thenReturn(Stream.of(records));
+        when(producer.send(any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        var result = sink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(source, never()).commit(any());
+        verify(lease).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transfer_shouldPropagateTraceContext_whenRecordsArePassedThrough() {
+        var records = records(new ConsumerRecord<>("source", 0, 0L, "key", "value".getBytes()));
+        when(source.openRecordsStream()).thenReturn(Stream.of(records));
+        when(producer.send(any())).thenReturn(completedFuture(mock(RecordMetadata.class)));
+        var traceCarrier = mock(TraceCarrier.class);
+        Telemetry telemetry = mock();
+        when(telemetry.getTraceCarrierWithCurrentContext()).thenReturn(traceCarrier);
+        when(telemetry.contextPropagationMiddleware(any(Supplier.class), any())).thenAnswer(i -> i.getArgument(0));
+        var tracedSink = KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .topic(TOPIC)
+                .producerProperties(new Properties())
+                .producerPool(producerPool)
+                .executorService(Executors.newSingleThreadExecutor())
+                .monitor(mock(Monitor.class))
+                .telemetry(telemetry)
+                .build();
+
+        var result = tracedSink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(telemetry).contextPropagationMiddleware(any(Supplier.class), eq(traceCarrier));
+    }
+
+    private ConsumerRecords<String, byte[]> records(ConsumerRecord<String, byte[]> consumerRecord) {
+        return new ConsumerRecords<>(Map.of(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()), List.of(consumerRecord)));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaProducerPoolTest {
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory = mock();
+    private final Duration idleTimeout = Duration.ofMinutes(1);
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private KafkaProducerPool pool;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        when(producerFactory.apply(any())).thenAnswer(i -> mock(Producer.class));
+        pool = new KafkaProducerPool(producerFactory, clock, idleTimeout);
+    }
+
+    @Test
+    void acquire_shouldShareProducer_whenPropertiesAreEqual() {
+        var first = pool.acquire(properties("localhost:9092"));
+        var second = pool.acquire(properties("localhost:9092"));
+
+        assertThat(first.producer()).isSameAs(second.producer());
+        verify(producerFactory, times(1)).apply(any());
+    }
+
+    @Test
+    void acquire_shouldNotBlockOtherProperties_whileProducerIsCreated() {
+        var creating = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(producerFactory.apply(properties("localhost:9092"))).thenAnswer(i -> {
+            creating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return mock(Producer.class);
+        });
+        var slow = CompletableFuture.supplyAsync(() -> pool.acquire(properties("localhost:9092")));
+
+        try {
+            assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(CompletableFuture.supplyAsync(() -> pool.acquire(properties("localhost:9093"))))
+                    .succeedsWithin(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } finally {
+            release.countDown();
+        }
+        assertThat(slow).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void acquire_shouldCloseCreatedProducer_whenAnotherOneWasPooledMeanwhile() {
+        var redundant = mock(Producer.class);
+        var first = new AtomicBoolean(true);
+        var nested = new AtomicReference<KafkaProducerPool.ProducerLease>();
+        when(producerFactory.apply(any())).thenAnswer(i -> {
+            if (first.getAndSet(false)) {
+                // another transfer pools a producer for the same properties while this one is being created
+                nested.set(pool.acquire(properties("localhost:9092")));
+                return redundant;
+            }
+            return mock(Producer.class);
+        });
+
+        var lease = pool.acquire(properties("localhost:9092"));
+
+        assertThat(lease.producer()).isSameAs(nested.get().producer()).isNotSameAs(redundant);
+        verify(redundant).close();
+    }
+
+    @Test
+    void acquire_shouldCreateDifferentProducers_whenPropertiesAreDifferent() {
+        var first = pool.acquire(properties("localhost:9092"));
+        var second = pool.acquire(properties("localhost:9093"));
+
+        assertThat(first.producer()).isNotSameAs(second.producer());
+    }
+
+    @Test
+    void release_shouldNotCloseProducer_whenStillInUse() {
+        var first = pool.acquire(properties("localhost:9092"));
+        var second = pool.acquire(properties("localhost:9092"));
+
+        first.close();
+        when(clock.instant()).thenReturn(now.plus(idleTimeout).plusSeconds(1));
+        first.close();
+        pool.acquire(properties("localhost:9093")).close();
+
+        verify(second.producer(), never()).close();
+    }
+
+    @Test
+    void release_shouldCloseProducer_whenIdleTimeoutExpired() {
+        var lease = pool.acquire(properties("localhost:9092"));
+        lease.close();
+
+        when(clock.instant()).thenReturn(now.plus(idleTimeout).plusSeconds(1));
+        var other = pool.acquire(properties("localhost:9093"));
+
+        verify(lease.producer()).close();
+        verify(other.producer(), never()).close();
+    }
+
+    @Test
+    void acquire_shouldReuseIdleProducer_whenIdleTimeoutNotExpired() {
+        var lease = pool.acquire(properties("localhost:9092"));
+        lease.close();
+
+        var reacquired = pool.acquire(properties("localhost:9092"));
+
+        assertThat(reacquired.producer()).isSameAs(lease.producer());
+        verify(lease.producer(), never()).close();
+    }
+
+    @Test
+    void evictIdle_shouldCloseOnlyIdleProducers_whenIdleTimeoutExpired() {
+        var idle = pool.acquire(properties("localhost:9092"));
+        idle.close();
+        var inUse = pool.acquire(properties("localhost:9093"));
+
+        when(clock.instant()).thenReturn(now.plus(idleTimeout).plusSeconds(1));
+        pool.evictIdle();
+
+        verify(idle.producer()).close();
+        verify(inUse.producer(), never()).close();
+    }
+
+    @Test
+    void close_shouldCloseAllProducers() {
+        var lease = pool.acquire(properties("localhost:9092"));
+
+        pool.close();
+
+        verify(lease.producer()).close();
+    }
+
+    private Properties properties(String bootstrapServers) {
+        var properties = new Properties();
+        properties.put("bootstrap.servers", bootstrapServers);
+        return properties;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataFlowMetrics;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+
+import java.time.Duration;
+
+/**
+ * Records the metrics of the finished data flows, tagged by source type, destination type and outcome. Durations and
+ * throughput are published as histograms, so they can be aggregated across the data plane instances.
+ */
+public class MicrometerDataFlowMetrics implements DataFlowMetrics {
+
+    private static final String DURATION_METRIC_NAME = "edc.dataplane.transfer.duration";
+    private static final String FIRST_BYTE_METRIC_NAME = "edc.dataplane.transfer.first.byte";
+    private static final String BYTES_METRIC_NAME = "edc.dataplane.transfer.bytes";
+    private static final String PARTS_METRIC_NAME = "edc.dataplane.transfer.parts";
+    private static final String THROUGHPUT_METRIC_NAME = "edc.dataplane.transfer.throughput";
+
+    private final MeterRegistry registry;
+
+    public MicrometerDataFlowMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void transferFinished(TransferProgress progress, Duration duration, boolean succeeded) {
+        var tags = Tags.of(
+                "source", String.valueOf(progress.getSourceType()),
+                "destination", String.valueOf(progress.getDestinationType()),
+                "outcome", succeeded ? "success" : "failure");
+
+        Timer.builder(DURATION_METRIC_NAME)
+                .description("Duration of the data flows")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration);
+
+        if (progress.getFirstByteAt() != TransferProgress.NOT_STARTED) {
+            Timer.builder(FIRST_BYTE_METRIC_NAME)
+                    .description("Time elapsed between the start of the data flows and the first byte read from the source")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(Duration.ofMillis(progress.getFirstByteAt() - progress.getStartedAt()));
+        }
+
+        DistributionSummary.builder(BYTES_METRIC_NAME)
+                .description("Bytes read from the source by the data flows")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry)
+                .record(progress.getBytes());
+
+        DistributionSummary.builder(PARTS_METRIC_NAME)
+                .description("Parts read from the source by the data flows")
+                .tags(tags)
+                .register(registry)
+                .record(progress.getParts());
+
+        var millis = duration.toMillis();
+        if (millis > 0) {
+            DistributionSummary.builder(THROUGHPUT_METRIC_NAME)
+                    .description("Throughput of the data flows")
+                    .baseUnit("bytes/s")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(progress.getBytes() * 1000.0 / millis);
+        }
+    }
+}
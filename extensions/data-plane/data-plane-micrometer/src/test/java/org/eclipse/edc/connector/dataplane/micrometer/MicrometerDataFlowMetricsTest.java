@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerDataFlowMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerDataFlowMetrics metrics = new MicrometerDataFlowMetrics(registry);
+
+    @Test
+    void transferFinished_shouldRecordMetricsTaggedBySourceDestinationAndOutcome() {
+        var progress = new TransferProgress("processId", "HttpData", "AmazonS3", 1000);
+        progress.partOpened();
+        progress.bytesRead(1500, 1200);
+        progress.bytesRead(500);
+
+        metrics.transferFinished(progress, Duration.ofSeconds(2), true);
+
+        var search = registry.find("edc.dataplane.transfer.duration")
+                .tag("source", "HttpData")
+                .tag("destination", "AmazonS3")
+                .tag("outcome", "success");
+        assertThat(search.timer()).isNotNull().satisfies(timer -> {
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(2);
+        });
+        assertThat(registry.get("edc.dataplane.transfer.first.byte").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+        assertThat(registry.get("edc.dataplane.transfer.bytes").summary().totalAmount()).isEqualTo(2000);
+        assertThat(registry.get("edc.dataplane.transfer.parts").summary().totalAmount()).isEqualTo(1);
+        assertThat(registry.get("edc.dataplane.transfer.throughput").summary().totalAmount()).isEqualTo(1000);
+    }
+
+    @Test
+    void transferFinished_shouldNotRecordFirstByte_whenNoByteHasBeenRead() {
+        var progress = new TransferProgress("processId", "HttpData", "AmazonS3", 1000);
+
+        metrics.transferFinished(progress, Duration.ofSeconds(1), false);
+
+        assertThat(registry.find("edc.dataplane.transfer.first.byte").timer()).isNull();
+        assertThat(registry.get("edc.dataplane.transfer.duration").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void transferFinished_shouldNotRecordThroughput_whenDurationIsZero() {
+        var progress = new TransferProgress("processId", "HttpData", "AmazonS3", 1000);
+        progress.bytesRead(10, 1000);
+
+        metrics.transferFinished(progress, Duration.ZERO, true);
+
+        assertThat(registry.find("edc.dataplane.transfer.throughput").summary()).isNull();
+        assertThat(registry.get("edc.dataplane.transfer.bytes").summary().totalAmount()).isEqualTo(10);
+    }
+}
@@ -1,7 +1,38 @@
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_lease
+(
+    leased_by      VARCHAR NOT NULL,
+    leased_at      BIGINT,
+    lease_duration INTEGER NOT NULL,
+    lease_id       VARCHAR NOT NULL
+        CONSTRAINT lease_pk
+            PRIMARY KEY
+);
+
+COMMENT ON COLUMN edc_lease.leased_at IS 'posix timestamp of lease';
+
+COMMENT ON COLUMN edc_lease.lease_duration IS 'duration of lease in milliseconds';
+
 CREATE TABLE IF NOT EXISTS edc_data_plane
 (
     process_id           VARCHAR NOT NULL PRIMARY KEY,
     state                INTEGER NOT NULL            ,
     created_at           BIGINT  NOT NULL            ,
-    updated_at           BIGINT  NOT NULL
+    updated_at           BIGINT  NOT NULL            ,
+    data_flow_request    JSON                        ,
+    lease_id             VARCHAR
+        CONSTRAINT data_plane_lease_lease_id_fk
+            REFERENCES edc_lease
+            ON DELETE SET NULL
 );
+
+-- migrates a table created by an earlier version, which had no request and no lease
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS data_flow_request JSON;
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS lease_id VARCHAR
+    CONSTRAINT data_plane_lease_lease_id_fk
+        REFERENCES edc_lease
+        ON DELETE SET NULL;
+
+-- queued requests are selected by state and ordered by reception time
+CREATE INDEX IF NOT EXISTS data_plane_state_updated_at ON edc_data_plane (state, updated_at);
@@ -18,17 +18,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
- * SQL implementation of {@link DataPlaneStore}
+ * SQL implementation of {@link DataPlaneStore}. The queued requests are leased through the lease table, so several
+ * runtimes can share the queue.
  */
 public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStore {
 
@@ -37,11 +44,18 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
 
     private final Clock clock;
 
+    private final String leaseHolderName;
+
+    private final SqlLeaseContextBuilder leaseContext;
+
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
-                             DataPlaneStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor) {
+                             DataPlaneStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
+                             String leaseHolderName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
+        this.leaseHolderName = leaseHolderName;
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
     @Override
@@ -55,11 +69,74 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public void received(DataFlowRequest request) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var processId = request.getProcessId();
+                var now = clock.millis();
+                if (stateById(connection, processId) == null) {
+                    queryExecutor.execute(connection, statements.getInsertRequestTemplate(), processId, State.RECEIVED.getCode(), now, now, toJson(request));
+                } else {
+                    queryExecutor.execute(connection, statements.getUpdateRequestTemplate(), State.RECEIVED.getCode(), now, toJson(request), processId);
+                }
+            } catch (Exception exception) {
+                throw new EdcPersistenceException(exception);
+            }
+        });
+    }
+
+    @Override
+    public List<QueuedRequest> nextNotLeased(int max) {
+        return transactionContext.execute(() -> {
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapQueuedRequest, statements.getNextNotLeasedTemplate(),
+                            State.RECEIVED.getCode(), clock.millis(), max)
+            ) {
+                var queued = stream.toList();
+                leaseContext.withConnection(connection).acquireLeases(queued.stream().map(it -> it.request().getProcessId()).toList());
+                return queued;
+            } catch (SQLException exception) {
+                throw new EdcPersistenceException(exception);
+            }
+        });
+    }
+
+    @Override
+    public void renewLeases(Collection<String> processIds) {
+        if (processIds.isEmpty()) {
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var arguments = Stream.concat(Stream.of(clock.millis(), leaseHolderName), processIds.stream()).toArray();
+                queryExecutor.execute(connection, statements.getRenewLeasesTemplate(processIds.size()), arguments);
+            } catch (Exception exception) {
+                throw new EdcPersistenceException(exception);
+            }
+        });
+    }
+
+    @Override
+    public long queueDepth() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var depth = queryExecutor.single(connection, false, r -> r.getLong(1), statements.getQueueDepthTemplate(),
+                        State.RECEIVED.getCode(), clock.millis());
+                return depth == null ? 0L : depth;
+            } catch (Exception exception) {
+                throw new EdcPersistenceException(exception);
+            }
+        });
+    }
+
     @Override
     public void completed(String processId) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
                 upsert(connection, processId, State.COMPLETED);
+                leaseContext.by(leaseHolderName).withConnection(connection).breakLeases(List.of(processId));
             } catch (Exception exception) {
                 throw new EdcPersistenceException(exception);
             }
@@ -84,6 +161,11 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         return State.from(stateCode);
     }
 
+    private QueuedRequest mapQueuedRequest(ResultSet resultSet) throws SQLException {
+        var request = fromJson(resultSet.getString(statements.getDataFlowRequestColumn()), DataFlowRequest.class);
+        return new QueuedRequest(request, resultSet.getLong(statements.getUpdatedAtColumn()));
+    }
+
     private void upsert(Connection connection, String processId, State state) {
         if (stateById(connection, processId) == null) {
             insert(connection, processId, state);
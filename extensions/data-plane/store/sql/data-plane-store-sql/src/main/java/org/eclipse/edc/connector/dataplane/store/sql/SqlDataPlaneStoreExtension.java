@@ -67,7 +67,7 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Provider
     public DataPlaneStore dataPlaneStore(ServiceExtensionContext context) {
         return new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), transactionContext, getStatementImpl(),
-                typeManager.getMapper(), clock, queryExecutor);
+                typeManager.getMapper(), clock, queryExecutor, context.getConnectorId());
     }
 
     /**
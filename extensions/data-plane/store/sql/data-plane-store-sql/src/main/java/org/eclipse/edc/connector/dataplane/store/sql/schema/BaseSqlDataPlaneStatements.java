@@ -14,11 +14,13 @@
 
 package org.eclipse.edc.connector.dataplane.store.sql.schema;
 
+import static java.lang.String.format;
+
 public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
 
     @Override
     public String getFindByIdTemplate() {
-        return String.format("SELECT * FROM %s WHERE %s = ?", getDataPlaneTable(), getProcessIdColumn());
+        return format("SELECT * FROM %s WHERE %s = ?", getDataPlaneTable(), getProcessIdColumn());
     }
 
     @Override
@@ -38,4 +40,74 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .column(getUpdatedAtColumn())
                 .update(getDataPlaneTable(), getProcessIdColumn());
     }
+
+    @Override
+    public String getInsertRequestTemplate() {
+        return executeStatement()
+                .column(getProcessIdColumn())
+                .column(getStateColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .jsonColumn(getDataFlowRequestColumn())
+                .insertInto(getDataPlaneTable());
+    }
+
+    @Override
+    public String getUpdateRequestTemplate() {
+        return executeStatement()
+                .column(getStateColumn())
+                .column(getUpdatedAtColumn())
+                .jsonColumn(getDataFlowRequestColumn())
+                .update(getDataPlaneTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getNextNotLeasedTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ? AND %s IS NOT NULL AND %s ORDER BY %s LIMIT ?",
+                getDataPlaneTable(), getStateColumn(), getDataFlowRequestColumn(), getNotLeasedFilter(), getUpdatedAtColumn());
+    }
+
+    @Override
+    public String getQueueDepthTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s = ? AND %s IS NOT NULL AND %s",
+                getDataPlaneTable(), getStateColumn(), getDataFlowRequestColumn(), getNotLeasedFilter());
+    }
+
+    @Override
+    public String getDeleteLeaseTemplate() {
+        return executeStatement().delete(getLeaseTableName(), getLeaseIdColumn());
+    }
+
+    @Override
+    public String getInsertLeaseTemplate() {
+        return executeStatement()
+                .column(getLeaseIdColumn())
+                .column(getLeasedByColumn())
+                .column(getLeasedAtColumn())
+                .column(getLeaseDurationColumn())
+                .insertInto(getLeaseTableName());
+    }
+
+    @Override
+    public String getUpdateLeaseTemplate() {
+        return executeStatement()
+                .column(getLeaseIdColumn())
+                .update(getDataPlaneTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindLeaseByEntityTemplate() {
+        return format("SELECT * FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?)",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataPlaneTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getLeasedEntityTableName() {
+        return getDataPlaneTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getProcessIdColumn();
+    }
 }
@@ -14,12 +14,12 @@
 
 package org.eclipse.edc.connector.dataplane.store.sql.schema;
 
-import org.eclipse.edc.sql.statement.SqlStatements;
+import org.eclipse.edc.sql.lease.LeaseStatements;
 
 /**
  * Sql Statements for DataPlane Store
  */
-public interface DataPlaneStatements extends SqlStatements {
+public interface DataPlaneStatements extends LeaseStatements {
 
     default String getDataPlaneTable() {
         return "edc_data_plane";
@@ -41,11 +41,36 @@ public interface DataPlaneStatements extends SqlStatements {
         return "state";
     }
 
+    default String getDataFlowRequestColumn() {
+        return "data_flow_request";
+    }
+
     String getFindByIdTemplate();
 
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    /**
+     * Inserts a queued request. Parameters: process id, state, created at, updated at, request.
+     */
+    String getInsertRequestTemplate();
+
+    /**
+     * Updates the state and the request of a process. Parameters: state, updated at, request, process id.
+     */
+    String getUpdateRequestTemplate();
+
+    /**
+     * Selects the queued requests that are not leased, in the order they have been received. Rows written before the
+     * requests were stored have no request and are skipped. Parameters: state, current timestamp, limit.
+     */
+    String getNextNotLeasedTemplate();
+
+    /**
+     * Counts the queued requests that are not leased. Parameters: state, current timestamp.
+     */
+    String getQueueDepthTemplate();
+
 }
 
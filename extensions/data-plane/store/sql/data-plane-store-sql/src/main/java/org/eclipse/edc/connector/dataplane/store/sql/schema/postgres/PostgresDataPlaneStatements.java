@@ -24,4 +24,13 @@ public class PostgresDataPlaneStatements extends BaseSqlDataPlaneStatements {
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    /**
+     * The selected rows are locked, and the rows locked by other runtimes are skipped, so runtimes that share the store
+     * don't compete for the same requests.
+     */
+    @Override
+    public String getNextNotLeasedTemplate() {
+        return super.getNextNotLeasedTemplate() + " FOR UPDATE SKIP LOCKED";
+    }
 }
@@ -48,7 +48,7 @@ public class PostgresDataPlaneStoreTest extends DataPlaneStoreTestBase {
         var clock = Clock.systemUTC();
 
         store = new SqlDataPlaneStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
-                statements, typeManager.getMapper(), clock, queryExecutor);
+                statements, typeManager.getMapper(), clock, queryExecutor, "test-runtime");
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
     }
@@ -56,6 +56,7 @@ public class PostgresDataPlaneStoreTest extends DataPlaneStoreTestBase {
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         extension.runQuery("DROP TABLE " + statements.getDataPlaneTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
     @Override
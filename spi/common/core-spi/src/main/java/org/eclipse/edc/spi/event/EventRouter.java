@@ -16,6 +16,8 @@ package org.eclipse.edc.spi.event;
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 
+import java.util.List;
+
 /**
  * Central component of the eventing system, the implementation keeps a list of subscribers and notifies them with
  * every events that gets published
@@ -45,4 +47,14 @@ public interface EventRouter {
      * @param event the event to be published
      */
     <E extends Event> void publish(EventEnvelope<E> event);
+
+    /**
+     * Return the state of the queues of the asynchronous subscribers, to be used for monitoring the event dispatch.
+     * Implementations that don't queue the events return an empty list.
+     *
+     * @return the stats of every asynchronous subscriber.
+     */
+    default List<SubscriberQueueStats> queueStats() {
+        return List.of();
+    }
 }
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.event;
+
+/**
+ * Snapshot of the queue of an asynchronous event subscriber.
+ *
+ * @param subscriber the subscriber name.
+ * @param depth      the number of events waiting to be delivered.
+ * @param dropped    the number of events that were not delivered because the queue was full.
+ * @param lagMillis  the time the last delivered event waited in the queue, in milliseconds.
+ */
+public record SubscriberQueueStats(String subscriber, int depth, long dropped, long lagMillis) {
+}
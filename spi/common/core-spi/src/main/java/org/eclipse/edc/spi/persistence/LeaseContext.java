@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import java.util.List;
+
 /**
  * Interface for storage implementations that need to "lease" certain entities, i.e. block them from subsequent
  * read/write access.
@@ -27,6 +29,17 @@ public interface LeaseContext {
      */
     void breakLease(String entityId);
 
+    /**
+     * Breaks the exclusive Lock on a batch of entities.
+     * Implementations are encouraged to override this, the default implementation breaks the leases one by one.
+     *
+     * @param entityIds The database IDs of the entities
+     * @throws RuntimeException or subclass if any of the leases could not be broken, e.g. because another holder holds it.
+     */
+    default void breakLeases(List<String> entityIds) {
+        entityIds.forEach(this::breakLease);
+    }
+
     /**
      * Acquires the exclusive Lock on an entity
      *
@@ -34,4 +47,15 @@ public interface LeaseContext {
      * @throws RuntimeException or subclass if the lease could not be acquired, e.g. because another holder holds it.
      */
     void acquireLease(String entityId);
+
+    /**
+     * Acquires the exclusive Lock on a batch of entities. Either all the leases are acquired, or none of them.
+     * Implementations are encouraged to override this, the default implementation acquires the leases one by one.
+     *
+     * @param entityIds The database IDs of the entities
+     * @throws RuntimeException or subclass if any of the leases could not be acquired, e.g. because another holder holds it.
+     */
+    default void acquireLeases(List<String> entityIds) {
+        entityIds.forEach(this::acquireLease);
+    }
 }
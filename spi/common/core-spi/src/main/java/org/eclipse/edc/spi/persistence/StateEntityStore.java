@@ -14,11 +14,15 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Define a store that can be used within a state machine
@@ -39,6 +43,18 @@ public interface StateEntityStore<T> {
         return new Criterion("pending", "=", false);
     }
 
+    /**
+     * Tells whether saving an entity is relevant for the save listeners, that is when the entity is new or when its
+     * state or pending flag changed. Saves that only update counters or timestamps, or release the lease, are not.
+     *
+     * @param previous the persisted entity, null if it did not exist.
+     * @param current  the entity being saved.
+     * @return true if the listeners should be notified.
+     */
+    static boolean isTransition(@Nullable StatefulEntity<?> previous, StatefulEntity<?> current) {
+        return previous == null || previous.getState() != current.getState() || previous.isPending() != current.isPending();
+    }
+
     /**
      * Returns a list of not leased entities that satisfy the filter criteria.
      * <p>
@@ -86,4 +102,39 @@ public interface StateEntityStore<T> {
      * @param entity the entity.
      */
     void save(T entity);
+
+    /**
+     * Releases the lease on an entity that has not been changed since it has been leased, so it can be picked up again.
+     * Implementors are encouraged to override this to release only the lease without writing the entity. Save listeners
+     * are not notified, as the entity did not change. The default implementation saves the entity.
+     *
+     * @param entity the entity.
+     */
+    default void breakLease(T entity) {
+        save(entity);
+    }
+
+    /**
+     * Releases the leases on a batch of entities that have not been changed since they have been leased, see
+     * {@link #breakLease(Object)}. Implementors are encouraged to override this to release all the leases in a single
+     * round-trip, the default implementation releases them one by one.
+     *
+     * @param entities the entities.
+     */
+    default void breakLeases(Collection<T> entities) {
+        entities.forEach(this::breakLease);
+    }
+
+    /**
+     * Registers a listener that gets notified when an entity has been created or transitioned to another state (see
+     * {@link #isTransition(StatefulEntity, StatefulEntity)}), e.g. to wake up a state machine without waiting for its
+     * next polling iteration. Lease releases never notify the listeners.
+     * The listener is called within the transaction that saves the entity, so listeners that need the change to be
+     * visible to the other readers of the store must defer their action until the transaction has been committed.
+     * Stores that don't support notifications ignore the listener, so the state machine falls back to polling.
+     *
+     * @param listener the listener.
+     */
+    default void registerSaveListener(Consumer<T> listener) {
+    }
 }
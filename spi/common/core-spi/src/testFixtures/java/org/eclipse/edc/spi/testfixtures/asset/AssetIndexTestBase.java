@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -147,6 +148,21 @@ public abstract class AssetIndexTestBase {
             assertThat(result1).hasSize(5).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void shouldReturnAssetsWithAllTheirProperties() {
+            var assets = IntStream.range(0, 3)
+                    .mapToObj(i -> createAssetBuilder("id" + i)
+                            .property("anotherKey", "anotherValue" + i)
+                            .privateProperty("privateKey", "privateValue" + i)
+                            .build())
+                    .peek(a -> getAssetIndex().create(a))
+                    .toList();
+
+            var result = getAssetIndex().queryAssets(QuerySpec.none()).toList();
+
+            assertThat(result).hasSize(3).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(assets);
+        }
+
         @Test
         @DisplayName("Query assets with query spec")
         void limit() {
@@ -327,6 +343,36 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void withSorting_shouldReturnAssetsInSortOrder() {
+            var assets = Stream.of("id2", "id3", "id1")
+                    .map(id -> createAssetBuilder(id).property("anotherKey", "anotherValue").build())
+                    .peek(a -> getAssetIndex().create(a))
+                    .toList();
+
+            var ascending = getAssetIndex().queryAssets(QuerySpec.Builder.newInstance()
+                    .sortField(Asset.PROPERTY_ID).sortOrder(SortOrder.ASC).build());
+            var descending = getAssetIndex().queryAssets(QuerySpec.Builder.newInstance()
+                    .sortField(Asset.PROPERTY_ID).sortOrder(SortOrder.DESC).build());
+
+            assertThat(ascending).usingRecursiveFieldByFieldElementComparator().containsExactly(assets.get(2), assets.get(0), assets.get(1));
+            assertThat(descending).usingRecursiveFieldByFieldElementComparator().containsExactly(assets.get(1), assets.get(0), assets.get(2));
+        }
+
+        @Test
+        void withPrivateSorting_shouldReturnPageInSortOrder() {
+            var assets = IntStream.range(0, 5)
+                    .mapToObj(i -> createAssetBuilder("id" + i).privateProperty("pKey", "pValue" + (4 - i)).build())
+                    .peek(a -> getAssetIndex().create(a))
+                    .toList();
+
+            var spec = QuerySpec.Builder.newInstance().sortField("pKey").sortOrder(SortOrder.ASC).offset(1).limit(3).build();
+
+            var result = getAssetIndex().queryAssets(spec);
+
+            assertThat(result).usingRecursiveFieldByFieldElementComparator().containsExactly(assets.get(3), assets.get(2), assets.get(1));
+        }
+
         @Test
         @DisplayName("Query assets using the LIKE operator")
         void like() {
@@ -25,13 +25,24 @@ public class NoopTransactionContext implements TransactionContext {
 
     @Override
     public void execute(TransactionBlock block) {
-        block.execute();
+        try {
+            block.execute();
+        } catch (RuntimeException e) {
+            synchronizations.get().clear();
+            throw e;
+        }
         notifyAndClearSyncs();
     }
 
     @Override
     public <T> T execute(ResultTransactionBlock<T> block) {
-        var result = block.execute();
+        T result;
+        try {
+            result = block.execute();
+        } catch (RuntimeException e) {
+            synchronizations.get().clear();
+            throw e;
+        }
         notifyAndClearSyncs();
         return result;
     }
@@ -44,6 +55,7 @@ public class NoopTransactionContext implements TransactionContext {
     private void notifyAndClearSyncs() {
         var syncList = synchronizations.get();
         syncList.forEach(TransactionSynchronization::beforeCompletion);
+        syncList.forEach(TransactionSynchronization::afterCommit);
         syncList.clear();
     }
 
@@ -40,7 +40,7 @@ public interface TransactionContext {
     <T> T execute(ResultTransactionBlock<T> block);
 
     /**
-     * Registers a synchronization that will be called before a transaction commits or is rolled back.
+     * Registers a synchronization that will be called before and after a transaction commits or is rolled back.
      */
     void registerSynchronization(TransactionSynchronization sync);
 
@@ -71,5 +71,12 @@ public interface TransactionContext {
     @FunctionalInterface
     interface TransactionSynchronization {
         void beforeCompletion();
+
+        /**
+         * Called after the transaction has been committed, when the changes are visible to other transactions. Not
+         * called if the transaction has been rolled back.
+         */
+        default void afterCommit() {
+        }
     }
 }
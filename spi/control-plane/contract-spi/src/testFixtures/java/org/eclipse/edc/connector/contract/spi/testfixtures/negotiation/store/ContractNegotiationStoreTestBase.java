@@ -37,6 +37,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -359,6 +360,60 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class BreakLease {
+        @Test
+        void leasedBySelf_shouldBreakLease() {
+            var negotiation = createNegotiation("test-id1");
+            getContractNegotiationStore().save(negotiation);
+            leaseEntity(negotiation.getId(), CONNECTOR_NAME);
+
+            getContractNegotiationStore().breakLease(negotiation);
+
+            assertThat(isLeasedBy(negotiation.getId(), CONNECTOR_NAME)).isFalse();
+            assertThat(getContractNegotiationStore().findById(negotiation.getId())).isNotNull();
+        }
+
+        @Test
+        void leasedByOther_shouldThrowException() {
+            var negotiation = createNegotiation("test-id1");
+            getContractNegotiationStore().save(negotiation);
+            leaseEntity(negotiation.getId(), "someone-else");
+
+            assertThatThrownBy(() -> getContractNegotiationStore().breakLease(negotiation)).isInstanceOf(IllegalStateException.class);
+            assertThat(isLeasedBy(negotiation.getId(), "someone-else")).isTrue();
+        }
+
+        @Test
+        void shouldNotNotifySaveListeners() {
+            var negotiation = createNegotiation("test-id1");
+            getContractNegotiationStore().save(negotiation);
+            leaseEntity(negotiation.getId(), CONNECTOR_NAME);
+            var saved = new ArrayList<String>();
+            getContractNegotiationStore().registerSaveListener(n -> saved.add(n.getId()));
+
+            getContractNegotiationStore().breakLease(negotiation);
+            getContractNegotiationStore().breakLeases(List.of(negotiation));
+
+            assertThat(saved).isEmpty();
+        }
+
+        @Test
+        void batch_shouldBreakLeases() {
+            var negotiation1 = createNegotiation("test-id1");
+            var negotiation2 = createNegotiation("test-id2");
+            getContractNegotiationStore().save(negotiation1);
+            getContractNegotiationStore().save(negotiation2);
+            leaseEntity(negotiation1.getId(), CONNECTOR_NAME);
+            leaseEntity(negotiation2.getId(), CONNECTOR_NAME);
+
+            getContractNegotiationStore().breakLeases(List.of(negotiation1, negotiation2));
+
+            assertThat(isLeasedBy(negotiation1.getId(), CONNECTOR_NAME)).isFalse();
+            assertThat(isLeasedBy(negotiation2.getId(), CONNECTOR_NAME)).isFalse();
+        }
+    }
+
     @Nested
     class Delete {
         @Test
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +100,83 @@ public abstract class TransferProcessStoreTestBase {
 
             assertThat(getTransferProcessStore().findAll(QuerySpec.none())).hasSize(1).containsExactly(t2);
         }
+
+        @Test
+        void shouldNotifySaveListeners() {
+            var saved = new ArrayList<String>();
+            getTransferProcessStore().registerSaveListener(transferProcess -> saved.add(transferProcess.getId()));
+
+            getTransferProcessStore().save(createTransferProcess("id1", INITIAL));
+
+            assertThat(saved).containsExactly("id1");
+        }
+
+        @Test
+        void shouldNotifySaveListeners_onlyWhenStateChanged() {
+            var transferProcess = createTransferProcess("id1", INITIAL);
+            getTransferProcessStore().save(transferProcess);
+            var saved = new ArrayList<String>();
+            getTransferProcessStore().registerSaveListener(tp -> saved.add(tp.getId() + ":" + tp.getState()));
+
+            getTransferProcessStore().save(transferProcess);
+            getTransferProcessStore().save(createTransferProcess("id1", PROVISIONING));
+
+            assertThat(saved).containsExactly("id1:" + PROVISIONING.code());
+        }
+    }
+
+    @Nested
+    class BreakLease {
+        @Test
+        void leasedBySelf_shouldBreakLease() {
+            var t = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t);
+            leaseEntity(t.getId(), CONNECTOR_NAME);
+
+            getTransferProcessStore().breakLease(t);
+
+            assertThat(isLeasedBy(t.getId(), CONNECTOR_NAME)).isFalse();
+            assertThat(getTransferProcessStore().findById(t.getId())).isNotNull().extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+        }
+
+        @Test
+        void leasedByOther_shouldThrowException() {
+            var t = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t);
+            leaseEntity(t.getId(), "someone-else");
+
+            assertThatThrownBy(() -> getTransferProcessStore().breakLease(t)).isInstanceOf(IllegalStateException.class);
+            assertThat(isLeasedBy(t.getId(), "someone-else")).isTrue();
+        }
+
+        @Test
+        void shouldNotNotifySaveListeners() {
+            var t = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t);
+            leaseEntity(t.getId(), CONNECTOR_NAME);
+            var saved = new ArrayList<String>();
+            getTransferProcessStore().registerSaveListener(transferProcess -> saved.add(transferProcess.getId()));
+
+            getTransferProcessStore().breakLease(t);
+            getTransferProcessStore().breakLeases(List.of(t));
+
+            assertThat(saved).isEmpty();
+        }
+
+        @Test
+        void batch_shouldBreakLeases() {
+            var t1 = createTransferProcess("id1", STARTED);
+            var t2 = createTransferProcess("id2", STARTED);
+            getTransferProcessStore().save(t1);
+            getTransferProcessStore().save(t2);
+            leaseEntity(t1.getId(), CONNECTOR_NAME);
+            leaseEntity(t2.getId(), CONNECTOR_NAME);
+
+            getTransferProcessStore().breakLeases(List.of(t1, t2));
+
+            assertThat(isLeasedBy(t1.getId(), CONNECTOR_NAME)).isFalse();
+            assertThat(isLeasedBy(t2.getId(), CONNECTOR_NAME)).isFalse();
+        }
     }
 
     @Nested
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector.spi;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneLoad;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -38,4 +39,13 @@ public interface DataPlaneSelectorService {
 
     ServiceResult<Void> addInstance(DataPlaneInstance instance);
 
+    /**
+     * Records the load reported by a data plane instance, used by the load-aware selection strategies.
+     *
+     * @param instanceId the id of the instance.
+     * @param load       the reported load.
+     * @return success, or not found if the instance is not registered.
+     */
+    ServiceResult<Void> reportLoad(String instanceId, DataPlaneLoad load);
+
 }
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.instance;
+
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * The load of a {@link DataPlaneInstance}, as reported by the data plane itself.
+ *
+ * @param activeFlows the number of data flows running on the instance.
+ * @param queueDepth  the number of data flows waiting to be run by the instance.
+ */
+public record DataPlaneLoad(long activeFlows, long queueDepth) {
+
+    public static final String DATAPLANE_LOAD_TYPE = EDC_NAMESPACE + "DataPlaneLoad";
+    public static final String ACTIVE_FLOWS = EDC_NAMESPACE + "activeFlows";
+    public static final String QUEUE_DEPTH = EDC_NAMESPACE + "queueDepth";
+
+    /**
+     * The total number of data flows the instance has to deal with.
+     */
+    public long total() {
+        return activeFlows + queueDepth;
+    }
+}
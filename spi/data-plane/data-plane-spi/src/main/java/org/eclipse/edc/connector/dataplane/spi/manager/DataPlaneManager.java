@@ -17,10 +17,12 @@ package org.eclipse.edc.connector.dataplane.spi.manager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferProgress;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -75,4 +77,12 @@ public interface DataPlaneManager {
      * Returns the transfer state for the process.
      */
     State transferState(String processId);
+
+    /**
+     * Returns the live progress of the transfer running for the process, or null if the transfer is not running.
+     */
+    @Nullable
+    default TransferProgress transferProgress(String processId) {
+        return null;
+    }
 }
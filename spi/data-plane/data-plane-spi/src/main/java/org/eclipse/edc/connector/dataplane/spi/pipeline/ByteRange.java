@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.regex.Pattern;
+
+/**
+ * A single byte range as requested through the HTTP {@code Range} header, e.g. {@code bytes=0-1023}, {@code bytes=1024-}
+ * or {@code bytes=-512}. Multiple ranges and units other than bytes are not supported.
+ *
+ * @param first the first byte position, or -1 if this is a suffix range
+ * @param last  the last byte position (inclusive), or -1 if the range is open-ended. For a suffix range this is the suffix length.
+ */
+public record ByteRange(long first, long last) {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    /**
+     * Parses the value of a {@code Range} header.
+     *
+     * @param header the header value, may be null
+     * @return the range, or null if the header is absent or not supported
+     */
+    @Nullable
+    public static ByteRange parse(@Nullable String header) {
+        if (header == null) {
+            return null;
+        }
+        var matcher = RANGE_PATTERN.matcher(header.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        var first = matcher.group(1);
+        var last = matcher.group(2);
+        if (first.isEmpty() && last.isEmpty()) {
+            return null;
+        }
+        try {
+            var range = new ByteRange(first.isEmpty() ? -1 : Long.parseLong(first), last.isEmpty() ? -1 : Long.parseLong(last));
+            return range.first != -1 && range.last != -1 && range.last < range.first ? null : range;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the range against the size of the content.
+     *
+     * @param size the content size
+     * @return the absolute range, or null if the range cannot be satisfied
+     */
+    @Nullable
+    public ByteRange resolve(long size) {
+        if (size <= 0) {
+            return null;
+        }
+        if (first == -1) {
+            return last == 0 ? null : new ByteRange(Math.max(0, size - last), size - 1);
+        }
+        if (first >= size) {
+            return null;
+        }
+        return new ByteRange(first, last == -1 ? size - 1 : Math.min(last, size - 1));
+    }
+
+    /**
+     * Returns the number of bytes covered by a resolved range.
+     */
+    public long length() {
+        return last - first + 1;
+    }
+
+    /**
+     * Returns the value of the {@code Content-Range} header for a resolved range.
+     */
+    public String contentRange(long size) {
+        return "bytes " + first + "-" + last + "/" + size;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+
+/**
+ * Records the metrics of the data flows executed by the data plane.
+ * <p>
+ * The default implementation does not record anything. Extension modules can provide implementations, such as for
+ * publishing the metrics to a monitoring system.
+ */
+@ExtensionPoint
+public interface DataFlowMetrics {
+
+    /**
+     * Default implementation that does not record any metric.
+     *
+     * @return a default {@link DataFlowMetrics} implementation.
+     */
+    static DataFlowMetrics noop() {
+        return (progress, duration, succeeded) -> {
+        };
+    }
+
+    /**
+     * Record a finished data flow.
+     *
+     * @param progress  the progress of the flow at the time it finished.
+     * @param duration  the time elapsed between the start and the end of the flow.
+     * @param succeeded whether the flow completed successfully.
+     */
+    void transferFinished(TransferProgress progress, Duration duration, boolean succeeded);
+}
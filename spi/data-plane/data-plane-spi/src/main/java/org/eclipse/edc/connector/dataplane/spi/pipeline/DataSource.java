@@ -35,6 +35,8 @@ public interface DataSource {
 
         long SIZE_UNKNOWN = -1;
 
+        String DEFAULT_MEDIA_TYPE = "application/octet-stream";
+
         /**
          * The part name.
          */
@@ -47,6 +49,13 @@ public interface DataSource {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content, or {@link #DEFAULT_MEDIA_TYPE} if it is not known.
+         */
+        default String mediaType() {
+            return DEFAULT_MEDIA_TYPE;
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.spi.pipeline;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -60,4 +61,12 @@ public interface PipelineService {
      * Registers a factory for creating data sinks.
      */
     void registerFactory(DataSinkFactory factory);
+
+    /**
+     * Returns the progress of the transfer running for the process, or null if there is none.
+     */
+    @Nullable
+    default TransferProgress transferProgress(String processId) {
+        return null;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of a running data flow: the bytes and the parts that have been read from the source so far. The
+ * counters are updated concurrently by the threads that move the data, timestamps are epoch milliseconds.
+ */
+public class TransferProgress {
+
+    public static final long NOT_STARTED = -1;
+
+    private final String processId;
+    private final String sourceType;
+    private final String destinationType;
+    private final long startedAt;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong parts = new AtomicLong();
+    private final AtomicLong firstByteAt = new AtomicLong(NOT_STARTED);
+
+    public TransferProgress(String processId, String sourceType, String destinationType, long startedAt) {
+        this.processId = processId;
+        this.sourceType = sourceType;
+        this.destinationType = destinationType;
+        this.startedAt = startedAt;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public String getDestinationType() {
+        return destinationType;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * The time at which the first byte was read from the source, or {@link #NOT_STARTED} if no byte has been read yet.
+     */
+    public long getFirstByteAt() {
+        return firstByteAt.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public long getParts() {
+        return parts.get();
+    }
+
+    /**
+     * Records that a part has been opened.
+     */
+    public void partOpened() {
+        parts.incrementAndGet();
+    }
+
+    /**
+     * Records that bytes have been read from the source.
+     *
+     * @param count the number of bytes.
+     * @param now   the current time, used as time of the first byte if none has been read before.
+     */
+    public void bytesRead(long count, long now) {
+        if (count <= 0) {
+            return;
+        }
+        firstByteAt.compareAndSet(NOT_STARTED, now);
+        bytes.addAndGet(count);
+    }
+
+    /**
+     * Records that bytes have been read from the source, once the time of the first byte has been recorded.
+     *
+     * @param count the number of bytes.
+     */
+    public void bytesRead(long count) {
+        if (count <= 0) {
+            return;
+        }
+        bytes.addAndGet(count);
+    }
+}
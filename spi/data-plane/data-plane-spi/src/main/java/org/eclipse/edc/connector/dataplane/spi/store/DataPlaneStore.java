@@ -14,10 +14,17 @@
 
 package org.eclipse.edc.connector.dataplane.spi.store;
 
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
- * Stores states of data flow requests.
+ * Stores states of data flow requests, and holds the queue of the requests that are waiting to be processed.
+ * <p>
+ * The queue methods have default implementations so that existing stores keep compiling, but a store must implement
+ * them to be used by the data plane manager, as the default {@link #received(DataFlowRequest)} rejects the request.
  */
 public interface DataPlaneStore {
 
@@ -27,7 +34,44 @@ public interface DataPlaneStore {
     void received(String processId);
 
     /**
-     * Mark the process as completed.
+     * Queue the request for processing and mark its process as received. A persistent store keeps the queued requests
+     * across restarts, and shares them between all the runtimes that use it.
+     *
+     * @throws UnsupportedOperationException if the store does not queue requests.
+     */
+    default void received(DataFlowRequest request) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support queueing data flow requests");
+    }
+
+    /**
+     * Lease up to {@code max} queued requests that are not leased, or whose lease is expired, in the order they have
+     * been received. The lease is held until the process gets marked as completed, and it must be renewed while the
+     * process is running.
+     *
+     * @param max the maximum number of requests.
+     * @return the leased requests.
+     */
+    default List<QueuedRequest> nextNotLeased(int max) {
+        return List.of();
+    }
+
+    /**
+     * Renew the leases held on the requests of the running processes.
+     *
+     * @param processIds the process ids.
+     */
+    default void renewLeases(Collection<String> processIds) {
+    }
+
+    /**
+     * Returns the number of queued requests that are waiting to be leased.
+     */
+    default long queueDepth() {
+        return 0;
+    }
+
+    /**
+     * Mark the process as completed, releasing the lease held on its request.
      */
     void completed(String processId);
 
@@ -36,6 +80,15 @@ public interface DataPlaneStore {
      */
     State getState(String processId);
 
+    /**
+     * A queued request.
+     *
+     * @param request    the request.
+     * @param receivedAt the epoch millis at which the request has been received.
+     */
+    record QueuedRequest(DataFlowRequest request, long receivedAt) {
+    }
+
     /**
      * Defines data flow states.
      */
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    @Test
+    void parse_shouldParseSupportedRanges() {
+        assertThat(ByteRange.parse("bytes=0-99")).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=100-")).isEqualTo(new ByteRange(100, -1));
+        assertThat(ByteRange.parse("bytes=-50")).isEqualTo(new ByteRange(-1, 50));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = { "", "bytes=-", "bytes=10-5", "items=0-10", "bytes=0-10,20-30", "bytes=a-b" })
+    void parse_shouldReturnNull_whenNotSupported(String header) {
+        assertThat(ByteRange.parse(header)).isNull();
+    }
+
+    @Test
+    void resolve() {
+        assertThat(new ByteRange(0, 99).resolve(50)).isEqualTo(new ByteRange(0, 49));
+        assertThat(new ByteRange(10, -1).resolve(50)).isEqualTo(new ByteRange(10, 49));
+        assertThat(new ByteRange(-1, 20).resolve(50)).isEqualTo(new ByteRange(30, 49));
+        assertThat(new ByteRange(-1, 100).resolve(50)).isEqualTo(new ByteRange(0, 49));
+        assertThat(new ByteRange(50, -1).resolve(50)).isNull();
+        assertThat(new ByteRange(-1, 0).resolve(50)).isNull();
+    }
+
+    @Test
+    void contentRange() {
+        var range = new ByteRange(10, 19);
+
+        assertThat(range.length()).isEqualTo(10);
+        assertThat(range.contentRange(100)).isEqualTo("bytes 10-19/100");
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.store;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataPlaneStoreTest {
+
+    private final DataPlaneStore store = new StateOnlyDataPlaneStore();
+
+    @Test
+    void received_shouldBeRejected_whenStoreDoesNotQueueRequests() {
+        var request = DataFlowRequest.Builder.newInstance()
+                .processId("processId")
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+
+        assertThatThrownBy(() -> store.received(request))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining(StateOnlyDataPlaneStore.class.getName());
+    }
+
+    @Test
+    void queue_shouldBeEmpty_whenStoreDoesNotQueueRequests() {
+        store.renewLeases(List.of("processId"));
+
+        assertThat(store.nextNotLeased(10)).isEmpty();
+        assertThat(store.queueDepth()).isZero();
+    }
+
+    /**
+     * A store written against the SPI before it held the queue.
+     */
+    private static class StateOnlyDataPlaneStore implements DataPlaneStore {
+
+        @Override
+        public void received(String processId) {
+        }
+
+        @Override
+        public void completed(String processId) {
+        }
+
+        @Override
+        public State getState(String processId) {
+            return State.NOT_TRACKED;
+        }
+    }
+}
@@ -15,8 +15,12 @@
 package org.eclipse.edc.connector.dataplane.spi.testfixtures.store;
 
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State.NOT_TRACKED;
@@ -47,5 +51,45 @@ public abstract class DataPlaneStoreTestBase {
         assertThat(getStore().getState("1")).isEqualTo(COMPLETED);
     }
 
+    @Test
+    void verifyQueuedRequestsAreLeasedInOrder() {
+        getStore().received(createRequest("1"));
+        getStore().received(createRequest("2"));
+
+        assertThat(getStore().getState("1")).isEqualTo(RECEIVED);
+        assertThat(getStore().queueDepth()).isEqualTo(2);
+
+        var first = getStore().nextNotLeased(1);
+        assertThat(first).hasSize(1).first().satisfies(queued -> assertThat(queued.request().getProcessId()).isEqualTo("1"));
+
+        var second = getStore().nextNotLeased(5);
+        assertThat(second).hasSize(1).first().satisfies(queued -> assertThat(queued.request().getProcessId()).isEqualTo("2"));
+
+        assertThat(getStore().nextNotLeased(5)).isEmpty();
+        assertThat(getStore().queueDepth()).isZero();
+    }
+
+    @Test
+    void verifyLeasedRequestIsCompleted() {
+        getStore().received(createRequest("1"));
+        var queued = getStore().nextNotLeased(1);
+        getStore().renewLeases(List.of("1"));
+
+        getStore().completed("1");
+
+        assertThat(queued).hasSize(1);
+        assertThat(getStore().getState("1")).isEqualTo(COMPLETED);
+        assertThat(getStore().nextNotLeased(1)).isEmpty();
+    }
+
     protected abstract DataPlaneStore getStore();
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+    }
 }